@@ -12,6 +12,9 @@ dependencies {
     implementation(project(":util"))
     runtimeOnly(project(":platform-sportpaper")) { exclude("*") }
     runtimeOnly(project(":platform-modern")) { exclude("*") }
+
+    testImplementation("io.papermc.paper:paper-api:1.21.1-R0.1-SNAPSHOT")
+    testImplementation("org.junit.jupiter:junit-jupiter:5.9.2")
 }
 
 
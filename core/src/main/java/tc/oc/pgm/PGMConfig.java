@@ -46,6 +46,7 @@ import tc.oc.pgm.api.Permissions;
 import tc.oc.pgm.api.map.factory.MapSourceFactory;
 import tc.oc.pgm.map.source.GitMapSourceFactory;
 import tc.oc.pgm.map.source.PathMapSourceFactory;
+import tc.oc.pgm.util.TimeUtils;
 import tc.oc.pgm.util.bukkit.BukkitUtils;
 import tc.oc.pgm.util.text.TextException;
 
@@ -57,6 +58,10 @@ public final class PGMConfig implements Config {
   // database-uri
   private final String databaseUri;
   private final int databaseMaxConnections;
+  private final Duration databaseWriteInterval;
+
+  // cache.*
+  private final Map<String, CacheLimits> cacheLimits;
 
   // motd
   private final String motd;
@@ -146,6 +151,14 @@ public final class PGMConfig implements Config {
         : Math.min(
             config.getInt("database-max-connections", 5),
             Runtime.getRuntime().availableProcessors());
+    this.databaseWriteInterval = parseDuration(config.getString("database-write-interval", "0s"));
+
+    this.cacheLimits = ImmutableMap.<String, CacheLimits>builder()
+        .put("usernames", new CacheLimits(config, "usernames", 10_000, "1h"))
+        .put("settings", new CacheLimits(config, "settings", 10_000, "1h"))
+        .put("skins", new CacheLimits(config, "skins", 16_384, "oo"))
+        .put("activities", new CacheLimits(config, "activities", 1_000, "oo"))
+        .build();
 
     final String motd = config.getString("motd");
     this.motd = motd == null || motd.isEmpty() ? null : parseComponentLegacy(motd);
@@ -478,6 +491,16 @@ public final class PGMConfig implements Config {
     return databaseMaxConnections;
   }
 
+  @Override
+  public Duration getDatabaseWriteInterval() {
+    return databaseWriteInterval;
+  }
+
+  @Override
+  public CacheLimits getCacheLimits(String cache) {
+    return cacheLimits.getOrDefault(cache, CacheLimits.UNLIMITED);
+  }
+
   @Override
   public List<? extends MapSourceFactory> getMapSourceFactories() {
     return mapSourceFactories;
@@ -697,6 +720,40 @@ public final class PGMConfig implements Config {
     return experiments;
   }
 
+  private static class CacheLimits implements Config.CacheLimits {
+    private static final CacheLimits UNLIMITED = new CacheLimits(0, TimeUtils.INFINITE_DURATION);
+
+    private final long maxSize;
+    private final Duration expireAfterAccess;
+
+    private CacheLimits(long maxSize, Duration expireAfterAccess) {
+      this.maxSize = maxSize;
+      this.expireAfterAccess = expireAfterAccess;
+    }
+
+    public CacheLimits(
+        ConfigurationSection config, String cache, long maxSize, String expireAfterAccess)
+        throws TextException {
+      this(
+          parseInteger(
+              config.getString("cache." + cache + ".max-size", String.valueOf(maxSize)),
+              Range.atLeast(0)),
+          parseDuration(
+              config.getString("cache." + cache + ".expire-after", expireAfterAccess),
+              Range.atLeast(Duration.ZERO)));
+    }
+
+    @Override
+    public long getMaxSize() {
+      return maxSize;
+    }
+
+    @Override
+    public Duration getExpireAfterAccess() {
+      return expireAfterAccess;
+    }
+  }
+
   private static class Group implements Config.Group {
     private final String id;
     private final Flair flair;
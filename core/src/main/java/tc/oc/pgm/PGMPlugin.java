@@ -160,7 +160,10 @@ public class PGMPlugin extends JavaPlugin implements PGM, Listener {
     }
 
     try {
-      datastore = new SQLDatastore(config.getDatabaseUri(), config.getDatabaseMaxConnections());
+      datastore = new SQLDatastore(
+          config.getDatabaseUri(),
+          config.getDatabaseMaxConnections(),
+          config.getDatabaseWriteInterval());
     } catch (SQLException | TextException e) {
       e.printStackTrace();
       getServer().getPluginManager().disablePlugin(this);
@@ -172,7 +175,7 @@ public class PGMPlugin extends JavaPlugin implements PGM, Listener {
         new SqlUsernameResolver((SQLDatastore) datastore),
         new ApiUsernameResolver());
 
-    datastore = new CacheDatastore(datastore);
+    datastore = new CacheDatastore(datastore, config);
 
     if (!loadInitialMaps()) {
       logger.warning("No maps found, adding default repository as a fallback.");
@@ -384,6 +387,7 @@ public class PGMPlugin extends JavaPlugin implements PGM, Listener {
     if (matchTabManager != null) registerEvents(matchTabManager);
     registerEvents(nameDecorationRegistry);
     registerEvents(new PGMListener(this, matchManager));
+    registerEvents(datastore);
     registerEvents(new FormattingListener());
     registerEvents(new AntiGriefListener(matchManager));
     registerEvents(new RestartListener(this, matchManager));
@@ -10,6 +10,7 @@ import com.google.common.collect.ImmutableMap;
 import java.lang.reflect.Method;
 import java.text.DecimalFormat;
 import java.text.NumberFormat;
+import java.time.Duration;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -42,6 +43,7 @@ import tc.oc.pgm.api.filter.Filterables;
 import tc.oc.pgm.api.filter.query.PartyQuery;
 import tc.oc.pgm.api.map.MapProtos;
 import tc.oc.pgm.api.map.factory.MapFactory;
+import tc.oc.pgm.api.match.Match;
 import tc.oc.pgm.api.player.MatchPlayer;
 import tc.oc.pgm.features.FeatureDefinitionContext;
 import tc.oc.pgm.features.XMLFeatureReference;
@@ -56,6 +58,7 @@ import tc.oc.pgm.structure.StructureDefinition;
 import tc.oc.pgm.util.Audience;
 import tc.oc.pgm.util.MethodParser;
 import tc.oc.pgm.util.MethodParsers;
+import tc.oc.pgm.util.TimeUtils;
 import tc.oc.pgm.util.inventory.ItemMatcher;
 import tc.oc.pgm.util.math.Formula;
 import tc.oc.pgm.util.named.NameStyle;
@@ -390,7 +393,21 @@ public class ActionParser {
         XMLUtils.parseBlockMaterialData(Node.fromRequiredAttr(el, "material")),
         parser.filter(el, "filter").orNull(),
         parser.parseBool(el, "update").orTrue(),
-        parser.parseBool(el, "events").orFalse());
+        parser.parseBool(el, "events").orFalse(),
+        parseBudget(el),
+        parser.action(Match.class, el, "complete-action").orNull());
+  }
+
+  /** Time to spend on each tick when changing blocks over several ticks, null to do it at once */
+  private @Nullable Duration parseBudget(Element el) throws InvalidXMLException {
+    return parser
+        .duration(el, "budget")
+        .validate((budget, node) -> {
+          if (budget.isNegative() || budget.isZero() || budget.toMillis() > TimeUtils.TICK) {
+            throw new InvalidXMLException("Budget must be positive and at most one tick", node);
+          }
+        })
+        .orNull();
   }
 
   @MethodParser("take-payment")
@@ -437,7 +454,10 @@ public class ActionParser {
 
     var structure = parser.reference(StructureDefinition.class, el, "structure").required();
     var update = parser.parseBool(el, "update").orTrue();
+    var budget = parseBudget(el);
+    var completeAction = parser.action(scope, el, "complete-action").orNull();
 
-    return new PasteStructureAction<>(scope, xFormula, yFormula, zFormula, structure, update);
+    return new PasteStructureAction<>(
+        scope, xFormula, yFormula, zFormula, structure, update, budget, completeAction);
   }
 }
@@ -1,13 +1,23 @@
 package tc.oc.pgm.action.actions;
 
+import static tc.oc.pgm.util.nms.NMSHacks.NMS_HACKS;
+
+import java.time.Duration;
+import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.block.BlockState;
 import org.bukkit.event.block.BlockFormEvent;
+import org.bukkit.util.BlockVector;
 import org.jetbrains.annotations.Nullable;
+import tc.oc.pgm.action.Action;
 import tc.oc.pgm.api.filter.Filter;
 import tc.oc.pgm.api.match.Match;
 import tc.oc.pgm.api.region.Region;
 import tc.oc.pgm.filters.query.BlockQuery;
+import tc.oc.pgm.snapshot.BlockJob;
+import tc.oc.pgm.snapshot.SnapshotMatchModule;
+import tc.oc.pgm.util.block.BlockVectors;
+import tc.oc.pgm.util.block.BlockWriter;
 import tc.oc.pgm.util.material.BlockMaterialData;
 
 public class FillAction extends AbstractAction<Match> {
@@ -17,37 +27,73 @@ public class FillAction extends AbstractAction<Match> {
   private final @Nullable Filter filter;
   private final boolean update;
   private final boolean events;
+  private final @Nullable Duration budget;
+  private final @Nullable Action<? super Match> completeAction;
 
   public FillAction(
       Region region,
       BlockMaterialData materialData,
       @Nullable Filter filter,
       boolean update,
-      boolean events) {
+      boolean events,
+      @Nullable Duration budget,
+      @Nullable Action<? super Match> completeAction) {
     super(Match.class);
     this.region = region;
     this.materialData = materialData;
     this.filter = filter;
     this.update = update;
     this.events = events;
+    this.budget = budget;
+    this.completeAction = completeAction;
   }
 
   @Override
   public void trigger(Match match) {
-    for (Block block : region.getBlocks(match.getWorld())) {
-      if (filter != null && filter.query(new BlockQuery(block)).isDenied()) continue;
-
-      if (!events) {
-        materialData.applyTo(block, update);
-      } else {
-        BlockState newState = block.getState();
-        materialData.applyTo(newState);
-
-        BlockFormEvent event = new BlockFormEvent(block, newState);
-        match.callEvent(event);
-        if (event.isCancelled()) continue;
-        newState.update(true, update);
-      }
+    World world = match.getWorld();
+    // Without physics nor events, blocks can be written in bulk
+    BlockWriter writer = events || update ? null : NMS_HACKS.createBlockWriter(world);
+    Runnable onComplete = completeAction == null ? null : () -> completeAction.trigger(match);
+
+    BlockJob<BlockVector> job = new BlockJob<>(
+        "fill",
+        region.getBlockVectorIterator(),
+        pos -> fill(match, writer, pos),
+        writer,
+        onComplete,
+        budget == null ? 0 : budget.toNanos());
+
+    SnapshotMatchModule smm = match.needModule(SnapshotMatchModule.class);
+    // Changes without events are not saved by the snapshot, so save the region before
+    if (!events) smm.getOriginalSnapshot().complete(region);
+    if (budget == null) {
+      smm.completeJobs();
+      job.complete();
+    } else {
+      smm.submitJob(job);
+    }
+  }
+
+  private void fill(Match match, @Nullable BlockWriter writer, BlockVector pos) {
+    World world = match.getWorld();
+    if (filter != null && filter.query(new BlockQuery(null, world, pos)).isDenied()) return;
+
+    if (writer != null) {
+      writer.set(pos.getBlockX(), pos.getBlockY(), pos.getBlockZ(), materialData);
+      return;
+    }
+
+    Block block = BlockVectors.blockAt(world, pos);
+    if (!events) {
+      materialData.applyTo(block, update);
+    } else {
+      BlockState newState = block.getState();
+      materialData.applyTo(newState);
+
+      BlockFormEvent event = new BlockFormEvent(block, newState);
+      match.callEvent(event);
+      if (event.isCancelled()) return;
+      newState.update(true, update);
     }
   }
 }
@@ -1,8 +1,12 @@
 package tc.oc.pgm.action.actions;
 
+import java.time.Duration;
 import org.bukkit.util.BlockVector;
+import org.jetbrains.annotations.Nullable;
+import tc.oc.pgm.action.Action;
 import tc.oc.pgm.api.feature.FeatureReference;
 import tc.oc.pgm.filters.Filterable;
+import tc.oc.pgm.structure.Structure;
 import tc.oc.pgm.structure.StructureDefinition;
 import tc.oc.pgm.util.math.Formula;
 
@@ -13,6 +17,8 @@ public class PasteStructureAction<T extends Filterable<?>> extends AbstractActio
   private final Formula<T> zformula;
   private final FeatureReference<StructureDefinition> structureReference;
   private final boolean update;
+  private final @Nullable Duration budget;
+  private final @Nullable Action<? super T> completeAction;
 
   public PasteStructureAction(
       Class<T> scope,
@@ -20,18 +26,30 @@ public class PasteStructureAction<T extends Filterable<?>> extends AbstractActio
       Formula<T> yformula,
       Formula<T> zformula,
       FeatureReference<StructureDefinition> structureReference,
-      boolean update) {
+      boolean update,
+      @Nullable Duration budget,
+      @Nullable Action<? super T> completeAction) {
     super(scope);
     this.xformula = xformula;
     this.yformula = yformula;
     this.zformula = zformula;
     this.structureReference = structureReference;
     this.update = update;
+    this.budget = budget;
+    this.completeAction = completeAction;
   }
 
   @Override
   public void trigger(T t) {
     var loc = new BlockVector(xformula.apply(t), yformula.apply(t), zformula.apply(t));
-    structureReference.get().getStructure(t.getMatch()).placeAbsolute(loc, update);
+    Structure structure = structureReference.get().getStructure(t.getMatch());
+    if (budget == null) {
+      structure.placeAbsolute(loc, update);
+      if (completeAction != null) completeAction.trigger(t);
+      return;
+    }
+
+    Runnable onComplete = completeAction == null ? null : () -> completeAction.trigger(t);
+    structure.placeAbsolute(loc, update, budget, onComplete);
   }
 }
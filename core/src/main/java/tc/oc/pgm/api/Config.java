@@ -46,6 +46,21 @@ public interface Config {
    */
   int getDatabaseMaxConnections();
 
+  /**
+   * Gets how long to delay database writes for, so they can be sent together.
+   *
+   * @return A duration, or zero to send every write right away.
+   */
+  Duration getDatabaseWriteInterval();
+
+  /**
+   * Gets the limits of an in-memory cache of player data.
+   *
+   * @param cache The name of the cache, like "settings" or "skins".
+   * @return The limits of the cache.
+   */
+  CacheLimits getCacheLimits(String cache);
+
   /**
    * Gets a list of map source factories
    *
@@ -351,6 +366,25 @@ public interface Config {
    */
   List<? extends Group> getGroups();
 
+  /** Limits of an in-memory cache, so it does not grow without bound. */
+  interface CacheLimits {
+
+    /**
+     * Gets the maximum size of the cache. Skins are weighed in kilobytes, other caches count
+     * entries.
+     *
+     * @return A maximum size, or 0 for no limit.
+     */
+    long getMaxSize();
+
+    /**
+     * Gets how long an entry is kept after it was last used.
+     *
+     * @return A duration, or infinite to keep entries until the cache is full.
+     */
+    Duration getExpireAfterAccess();
+  }
+
   /** A group of players with a common permission set and optional prefix. */
   interface Group {
 
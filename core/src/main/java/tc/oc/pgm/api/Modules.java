@@ -26,6 +26,7 @@ import tc.oc.pgm.consumable.ConsumableMatchModule;
 import tc.oc.pgm.consumable.ConsumableModule;
 import tc.oc.pgm.controlpoint.ControlPointMatchModule;
 import tc.oc.pgm.controlpoint.ControlPointModule;
+import tc.oc.pgm.controlpoint.RegionPlayerTrackerMatchModule;
 import tc.oc.pgm.core.CoreMatchModule;
 import tc.oc.pgm.core.CoreModule;
 import tc.oc.pgm.crafting.CraftingMatchModule;
@@ -322,5 +323,7 @@ public final class Modules {
     // MatchModules only used if required as a dependency by other modules
     registerDependencyOnly(SnapshotMatchModule.class, new SnapshotMatchModule.Factory());
     registerDependencyOnly(HologramMatchModule.class, HologramMatchModule::new);
+    registerDependencyOnly(
+        RegionPlayerTrackerMatchModule.class, RegionPlayerTrackerMatchModule::new);
   }
 }
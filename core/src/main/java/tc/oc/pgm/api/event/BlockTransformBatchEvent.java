@@ -0,0 +1,85 @@
+package tc.oc.pgm.api.event;
+
+import static tc.oc.pgm.util.Assert.assertNotNull;
+
+import java.util.List;
+import java.util.function.Consumer;
+import org.bukkit.World;
+import org.bukkit.event.Event;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+
+/**
+ * Called with every {@link BlockTransformEvent} of a single cause, like an explosion, so that they
+ * can be handled in one pass.
+ *
+ * <p>The batch is called at every priority, right before its {@link BlockTransformEvent}s are
+ * called at the same priority. Those are not called on listeners that implement {@link
+ * BatchListener}, so such listeners must handle the batch in place of every one of their {@link
+ * BlockTransformEvent} handlers.
+ */
+public class BlockTransformBatchEvent extends Event {
+
+  private final Event cause;
+  private final World world;
+  private final List<BlockTransformEvent> events;
+
+  public BlockTransformBatchEvent(Event cause, World world, List<BlockTransformEvent> events) {
+    this.cause = assertNotNull(cause);
+    this.world = assertNotNull(world);
+    this.events = assertNotNull(events);
+  }
+
+  /**
+   * Get the {@link Event} that caused every {@link BlockTransformEvent} of the batch.
+   *
+   * @return The cause of the batch.
+   */
+  public Event getCause() {
+    return cause;
+  }
+
+  /**
+   * Get the {@link World} that every {@link BlockTransformEvent} of the batch occurred in.
+   *
+   * @return The {@link World} of the batch.
+   */
+  public World getWorld() {
+    return world;
+  }
+
+  /**
+   * Get the {@link BlockTransformEvent}s of the batch, including the cancelled ones.
+   *
+   * @return An unmodifiable list of events.
+   */
+  public List<BlockTransformEvent> getEvents() {
+    return events;
+  }
+
+  /**
+   * Handle each {@link BlockTransformEvent} of the batch that is not cancelled, as a handler with
+   * {@code ignoreCancelled = true} would.
+   *
+   * @param action The handler to call with each event.
+   */
+  public void forEachUncancelled(Consumer<? super BlockTransformEvent> action) {
+    for (BlockTransformEvent event : events) {
+      if (!event.isCancelled()) action.accept(event);
+    }
+  }
+
+  /** A {@link Listener} that handles {@link BlockTransformEvent}s in batches when possible. */
+  public interface BatchListener extends Listener {}
+
+  private static final HandlerList handlers = new HandlerList();
+
+  @Override
+  public HandlerList getHandlers() {
+    return handlers;
+  }
+
+  public static HandlerList getHandlerList() {
+    return handlers;
+  }
+}
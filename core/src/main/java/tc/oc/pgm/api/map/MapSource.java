@@ -68,6 +68,13 @@ public interface MapSource {
    */
   void setIncludes(Collection<MapInclude> include);
 
+  /**
+   * Gets the collection of includes the map source referenced when it was last read.
+   *
+   * @return The {@link MapInclude}s
+   */
+  Collection<MapInclude> getIncludes();
+
   MapRoot getRoot();
 
   Path getRelativeDir();
@@ -1,5 +1,7 @@
 package tc.oc.pgm.api.match.factory;
 
+import java.time.Duration;
+import java.util.Map;
 import java.util.concurrent.Future;
 import tc.oc.pgm.api.match.Match;
 
@@ -8,4 +10,13 @@ public interface MatchFactory extends Future<Match> {
 
   /** Resets delays on the {@link Future} and creates the {@link Match} as quickly as possible. */
   void await();
+
+  /**
+   * Get the time spent in each stage of creating the {@link Match} so far, in order.
+   *
+   * <p>If the world was prepared ahead of time, the time it took is also included as "Prewarm".
+   *
+   * @return A map of stage names to durations.
+   */
+  Map<String, Duration> getStageDurations();
 }
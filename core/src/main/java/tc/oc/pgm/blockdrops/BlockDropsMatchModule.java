@@ -20,13 +20,14 @@ import org.bukkit.entity.FallingBlock;
 import org.bukkit.event.Event;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
-import org.bukkit.event.Listener;
 import org.bukkit.event.block.BlockBreakEvent;
 import org.bukkit.event.entity.EntityChangeBlockEvent;
 import org.bukkit.event.entity.EntityExplodeEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.util.Vector;
 import org.jetbrains.annotations.Nullable;
+import tc.oc.pgm.api.event.BlockTransformBatchEvent;
+import tc.oc.pgm.api.event.BlockTransformBatchEvent.BatchListener;
 import tc.oc.pgm.api.event.BlockTransformEvent;
 import tc.oc.pgm.api.match.Match;
 import tc.oc.pgm.api.match.MatchModule;
@@ -42,7 +43,7 @@ import tc.oc.pgm.util.material.BlockMaterialData;
 import tc.oc.pgm.util.material.MaterialData;
 
 @ListenerScope(MatchScope.RUNNING)
-public class BlockDropsMatchModule implements MatchModule, Listener {
+public class BlockDropsMatchModule implements MatchModule, BatchListener {
   private static final double BASE_FALL_SPEED = 3d;
 
   private final BlockDropsRuleSet ruleSet;
@@ -71,6 +72,11 @@ public class BlockDropsMatchModule implements MatchModule, Listener {
     return event instanceof BlockBreakEvent || event instanceof EntityExplodeEvent;
   }
 
+  @EventHandler(priority = EventPriority.LOW)
+  public void initializeDrops(BlockTransformBatchEvent batch) {
+    batch.getEvents().forEach(this::initializeDrops);
+  }
+
   @EventHandler(priority = EventPriority.LOW)
   public void initializeDrops(BlockTransformEvent event) {
     if (!causesDrops(event.getCause())) {
@@ -228,6 +234,11 @@ public class BlockDropsMatchModule implements MatchModule, Listener {
     }
   }
 
+  @EventHandler(priority = EventPriority.HIGH)
+  public void onFallingBlockLand(BlockTransformBatchEvent batch) {
+    batch.forEachUncancelled(this::onFallingBlockLand);
+  }
+
   @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
   public void onFallingBlockLand(BlockTransformEvent event) {
     if (event.getCause() instanceof EntityChangeBlockEvent) {
@@ -7,6 +7,7 @@ import static tc.oc.pgm.util.text.TextException.noPermission;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Iterables;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -42,6 +43,7 @@ import tc.oc.pgm.api.setting.SettingValue;
 import tc.oc.pgm.api.setting.Settings;
 import tc.oc.pgm.ffa.Tribute;
 import tc.oc.pgm.util.Audience;
+import tc.oc.pgm.util.GroupedAudience;
 import tc.oc.pgm.util.Players;
 import tc.oc.pgm.util.bukkit.OnlinePlayerUUIDMapAdapter;
 import tc.oc.pgm.util.text.TextException;
@@ -157,7 +159,8 @@ public class ChatManager implements Listener {
     Component finalMessage = event
         .getChannel()
         .formatMessage(event.getTarget(), event.getSender(), event.getComponent());
-    event.getViewers().forEach(player -> player.sendMessage(finalMessage));
+    GroupedAudience.sendMessage(
+        Iterables.transform(event.getViewers(), MatchPlayer::getBukkit), finalMessage);
 
     channel.messageSent(event);
 
@@ -0,0 +1,192 @@
+package tc.oc.pgm.command;
+
+import static net.kyori.adventure.text.Component.text;
+
+import com.google.common.cache.CacheStats;
+import java.util.concurrent.TimeUnit;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.plugin.RegisteredListener;
+import org.incendo.cloud.annotations.Command;
+import org.incendo.cloud.annotations.CommandDescription;
+import org.incendo.cloud.annotations.Permission;
+import tc.oc.pgm.api.Datastore;
+import tc.oc.pgm.api.PGM;
+import tc.oc.pgm.api.Permissions;
+import tc.oc.pgm.db.CacheDatastore;
+import tc.oc.pgm.db.SQLDatastore;
+import tc.oc.pgm.filters.FilterMatchModule;
+import tc.oc.pgm.snapshot.BlockJob;
+import tc.oc.pgm.snapshot.SnapshotMatchModule;
+import tc.oc.pgm.snapshot.WorldSnapshot;
+import tc.oc.pgm.tracker.TrackerMatchModule;
+import tc.oc.pgm.tracker.trackers.BlockTracker;
+import tc.oc.pgm.util.Audience;
+import tc.oc.pgm.util.bukkit.Events;
+import tc.oc.pgm.util.concurrent.WriteBehindQueue;
+import tc.oc.pgm.util.listener.PlayerMoveListener;
+import tc.oc.pgm.util.player.PlayerComponent;
+import tc.oc.pgm.util.player.PlayerRenderer;
+
+/** Debug statistics of performance sensitive systems, only shown to admins so left untranslated. */
+public final class PerformanceCommand {
+
+  @Command("pgm perf filters")
+  @CommandDescription("Show dynamic filter check statistics")
+  @Permission(Permissions.DEBUG)
+  public void filters(Audience audience, FilterMatchModule fmm) {
+    if (!fmm.isBatchingMoveChecks()) {
+      audience.sendMessage(text("Batched move checks are disabled", NamedTextColor.RED));
+      return;
+    }
+
+    long checks = fmm.getMoveChecks();
+    audience.sendMessage(stat("Move checks", checks));
+    audience.sendMessage(stat("Ticks avoided", fmm.getMoveTicksAvoided()));
+    audience.sendMessage(stat("Time spent (ms)", millis(fmm.getMoveCheckNanos())));
+    if (checks > 0) {
+      audience.sendMessage(stat("Average (us)", fmm.getMoveCheckNanos() / checks / 1000));
+    }
+  }
+
+  @Command("pgm perf snapshot")
+  @CommandDescription("Show world snapshot memory usage")
+  @Permission(Permissions.DEBUG)
+  public void snapshot(Audience audience, SnapshotMatchModule smm) {
+    WorldSnapshot snapshot = smm.getOriginalSnapshot();
+    audience.sendMessage(stat("Backend", snapshot.isPacked() ? "packed" : "chunk snapshots"));
+    audience.sendMessage(stat("Chunks", snapshot.getChunkCount()));
+    audience.sendMessage(stat("Pending chunks", snapshot.getPendingCount()));
+
+    long bytes = snapshot.getMemoryUsage();
+    audience.sendMessage(stat("Memory (KiB)", bytes < 0 ? "unknown" : bytes / 1024));
+  }
+
+  @Command("pgm perf jobs")
+  @CommandDescription("Show block changes spread over several ticks")
+  @Permission(Permissions.DEBUG)
+  public void jobs(Audience audience, SnapshotMatchModule smm) {
+    if (smm.getJobs().isEmpty()) {
+      audience.sendMessage(text("No block changes are running", NamedTextColor.RED));
+      return;
+    }
+
+    for (BlockJob<?> job : smm.getJobs()) {
+      audience.sendMessage(text(job.getName(), NamedTextColor.GOLD));
+      audience.sendMessage(stat("Blocks done", job.getProgress()));
+      audience.sendMessage(stat("Budget (us)", job.getBudget() / 1000));
+    }
+  }
+
+  @Command("pgm perf blocks")
+  @CommandDescription("Show block ownership tracking memory usage")
+  @Permission(Permissions.DEBUG)
+  public void blocks(Audience audience, TrackerMatchModule tmm) {
+    BlockTracker blocks = tmm.getBlockTracker();
+    audience.sendMessage(stat("Tracked blocks", blocks.getBlockCount()));
+    audience.sendMessage(stat("Chunks", blocks.getChunkCount()));
+    audience.sendMessage(stat("Memory (KiB)", blocks.getMemoryUsage() / 1024));
+  }
+
+  @Command("pgm perf database")
+  @CommandDescription("Show delayed database write statistics")
+  @Permission(Permissions.DEBUG)
+  public void database(Audience audience) {
+    Datastore datastore = PGM.get().getDatastore();
+    if (datastore instanceof CacheDatastore) datastore = ((CacheDatastore) datastore).getDelegate();
+
+    WriteBehindQueue writes =
+        datastore instanceof SQLDatastore ? ((SQLDatastore) datastore).getWriteQueue() : null;
+    if (writes == null) {
+      audience.sendMessage(text("Delayed database writes are disabled", NamedTextColor.RED));
+      return;
+    }
+
+    long flushes = writes.getFlushes();
+    audience.sendMessage(stat("Queue depth", writes.getQueueDepth()));
+    audience.sendMessage(stat("Submitted", writes.getSubmitted()));
+    audience.sendMessage(stat("Coalesced", writes.getCoalesced()));
+    audience.sendMessage(stat("Written", writes.getWritten()));
+    audience.sendMessage(stat("Flushes", flushes));
+    audience.sendMessage(stat("Last flush (ms)", millis(writes.getLastFlushNanos())));
+    audience.sendMessage(stat("Max flush (ms)", millis(writes.getMaxFlushNanos())));
+    if (flushes > 0) {
+      long average = writes.getTotalFlushNanos() / flushes;
+      audience.sendMessage(stat("Average flush (ms)", millis(average)));
+    }
+  }
+
+  @Command("pgm perf caches")
+  @CommandDescription("Show player data cache statistics")
+  @Permission(Permissions.DEBUG)
+  public void caches(Audience audience) {
+    if (!(PGM.get().getDatastore() instanceof CacheDatastore datastore)) {
+      audience.sendMessage(text("Player data is not cached", NamedTextColor.RED));
+      return;
+    }
+
+    datastore.getCaches().forEach((name, cache) -> {
+      CacheStats stats = cache.stats();
+      audience.sendMessage(text(name, NamedTextColor.GOLD));
+      audience.sendMessage(stat("Size", cache.size()));
+      audience.sendMessage(stat("Hits", stats.hitCount()));
+      audience.sendMessage(stat("Misses", stats.missCount()));
+      audience.sendMessage(stat("Hit rate (%)", Math.round(stats.hitRate() * 100)));
+      audience.sendMessage(stat("Evictions", stats.evictionCount()));
+    });
+  }
+
+  @Command("pgm perf names")
+  @CommandDescription("Show player name cache statistics")
+  @Permission(Permissions.DEBUG)
+  public void names(Audience audience) {
+    PlayerRenderer renderer = PlayerComponent.RENDERER;
+    CacheStats stats = renderer.getStats();
+    audience.sendMessage(stat("Size", renderer.getCacheSize()));
+    audience.sendMessage(stat("Indexed players", renderer.getIndexedPlayers()));
+    audience.sendMessage(stat("Hit rate (%)", Math.round(stats.hitRate() * 100)));
+    audience.sendMessage(stat("Renders", stats.loadCount()));
+    audience.sendMessage(stat("Render time (ms)", millis(stats.totalLoadTime())));
+    if (stats.loadCount() > 0) {
+      audience.sendMessage(stat("Average (us)", stats.totalLoadTime() / stats.loadCount() / 1000));
+    }
+  }
+
+  @Command("pgm perf moves")
+  @CommandDescription("Show how many movements cross a block boundary")
+  @Permission(Permissions.DEBUG)
+  public void moves(Audience audience) {
+    PlayerMoveListener listener = null;
+    for (RegisteredListener registration :
+        Events.getEventListeners(PlayerMoveEvent.class).getRegisteredListeners()) {
+      if (registration.getListener() instanceof PlayerMoveListener moveListener) {
+        listener = moveListener;
+        break;
+      }
+    }
+    if (listener == null) {
+      audience.sendMessage(text("Movement listener is not registered", NamedTextColor.RED));
+      return;
+    }
+
+    long raw = listener.getRawMoves();
+    long coarse = listener.getCoarseMoves();
+    audience.sendMessage(stat("Raw moves", raw));
+    audience.sendMessage(stat("Coarse moves", coarse));
+    if (raw > 0) {
+      audience.sendMessage(stat("Filtered (%)", (raw - coarse) * 100 / raw));
+    }
+  }
+
+  static Component stat(String name, Object value) {
+    return text()
+        .append(text(name + ": ", NamedTextColor.YELLOW))
+        .append(text(String.valueOf(value), NamedTextColor.AQUA))
+        .build();
+  }
+
+  static long millis(long nanos) {
+    return TimeUnit.NANOSECONDS.toMillis(nanos);
+  }
+}
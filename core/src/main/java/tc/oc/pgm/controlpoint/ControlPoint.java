@@ -81,7 +81,7 @@ public class ControlPoint extends SimpleGoal<ControlPointDefinition>
   }
 
   public void registerEvents() {
-    this.match.addListener(this.playerTracker, MatchScope.RUNNING);
+    this.match.needModule(RegionPlayerTrackerMatchModule.class).add(this.playerTracker);
     this.match.addListener(this.blockDisplay, MatchScope.RUNNING);
 
     this.blockDisplay.render();
@@ -89,7 +89,7 @@ public class ControlPoint extends SimpleGoal<ControlPointDefinition>
 
   public void unregisterEvents() {
     HandlerList.unregisterAll(this.blockDisplay);
-    HandlerList.unregisterAll(this.playerTracker);
+    this.match.needModule(RegionPlayerTrackerMatchModule.class).remove(this.playerTracker);
   }
 
   public ControlPointBlockDisplay getBlockDisplay() {
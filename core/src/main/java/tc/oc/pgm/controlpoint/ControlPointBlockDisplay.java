@@ -78,6 +78,8 @@ public class ControlPointBlockDisplay implements Listener {
       if (controllingTeam == null) {
         snapshot.placeBlocks(this.controllerDisplayRegion, null, false);
       } else {
+        // Recolouring fires no events, so the original blocks must be saved first
+        snapshot.complete(this.controllerDisplayRegion);
         COLOR_UTILS.setColor(
             match.getWorld(),
             this.controllerDisplayRegion.getBlockVectors(),
@@ -105,6 +107,7 @@ public class ControlPointBlockDisplay implements Listener {
   protected void setProgress(
       Competitor controllingTeam, Competitor capturingTeam, double capturingProgress) {
     if (this.progressDisplayRegion != null) {
+      snapshot.complete(this.progressDisplayRegion);
       Vector center = this.progressDisplayRegion.getBounds().getCenterPoint();
 
       // capturingProgress can be zero, but it can never be one, so invert it to avoid
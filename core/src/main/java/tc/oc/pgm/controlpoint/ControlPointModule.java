@@ -43,7 +43,7 @@ public class ControlPointModule implements MapModule<ControlPointMatchModule> {
 
   @Override
   public Collection<Class<? extends MatchModule>> getHardDependencies() {
-    return ImmutableList.of(SnapshotMatchModule.class);
+    return ImmutableList.of(SnapshotMatchModule.class, RegionPlayerTrackerMatchModule.class);
   }
 
   @Override
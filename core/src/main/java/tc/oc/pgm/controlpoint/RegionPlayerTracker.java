@@ -3,22 +3,19 @@ package tc.oc.pgm.controlpoint;
 import com.google.common.collect.Sets;
 import java.util.Set;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.EventPriority;
-import org.bukkit.event.Listener;
-import org.bukkit.event.player.PlayerTeleportEvent;
 import org.bukkit.util.Vector;
 import org.jetbrains.annotations.Nullable;
 import tc.oc.pgm.api.filter.Filter;
 import tc.oc.pgm.api.match.Match;
 import tc.oc.pgm.api.player.MatchPlayer;
 import tc.oc.pgm.api.region.Region;
-import tc.oc.pgm.spawns.events.ParticipantDespawnEvent;
 import tc.oc.pgm.util.MatchPlayers;
-import tc.oc.pgm.util.event.PlayerCoarseMoveEvent;
 
-/** Tracks which players are on a control point and answers some queries about them */
-public class RegionPlayerTracker implements Listener {
+/**
+ * Tracks which players are on a control point and answers some queries about them. Player movement
+ * is handled by {@link RegionPlayerTrackerMatchModule}, once the tracker is added to it.
+ */
+public class RegionPlayerTracker {
   private final Match match;
   private final Set<MatchPlayer> players = Sets.newHashSet();
 
@@ -26,6 +23,10 @@ public class RegionPlayerTracker implements Listener {
   private Region region;
   // A static filter players must match when entering
   private @Nullable Filter staticFilter;
+  // Whether the region was changed, in which case it can't be indexed by its bounds
+  private boolean moving;
+  // The module handling movement for this tracker, if it was added to one
+  private @Nullable RegionPlayerTrackerMatchModule module;
 
   public RegionPlayerTracker(Match match, Region region) {
     this(match, region, null);
@@ -41,38 +42,46 @@ public class RegionPlayerTracker implements Listener {
     return this.players;
   }
 
+  Region getRegion() {
+    return region;
+  }
+
+  boolean isMoving() {
+    return moving;
+  }
+
+  void setModule(@Nullable RegionPlayerTrackerMatchModule module) {
+    this.module = module;
+  }
+
   public void setRegion(Region region) {
     this.region = region;
+    if (!moving) {
+      // The region can't be indexed by its bounds anymore
+      this.moving = true;
+      if (module != null) module.invalidate();
+    }
     for (MatchPlayer player : match.getPlayers()) {
       handlePlayerMove(player.getBukkit(), player.getLocation().toVector());
     }
   }
 
-  @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
-  public void onPlayerMove(final PlayerCoarseMoveEvent event) {
-    this.handlePlayerMove(event.getPlayer(), event.getTo().toVector());
-  }
-
-  @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
-  public void onPlayerTeleport(final PlayerTeleportEvent event) {
-    this.handlePlayerMove(event.getPlayer(), event.getTo().toVector());
-  }
-
   public void handlePlayerMove(Player bukkit, Vector to) {
     MatchPlayer player = this.match.getPlayer(bukkit);
     if (!MatchPlayers.canInteract(player)) return;
 
-    if (!player.getBukkit().isDead()
+    update(player, contains(player, to));
+  }
+
+  boolean contains(MatchPlayer player, Vector to) {
+    return !player.getBukkit().isDead()
         && this.region.contains(to.toBlockVector())
-        && (this.staticFilter == null || this.staticFilter.query(player).isAllowed())) {
-      this.players.add(player);
-    } else {
-      this.players.remove(player);
-    }
+        && (this.staticFilter == null || this.staticFilter.query(player).isAllowed());
   }
 
-  @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
-  public void onPlayerDespawn(final ParticipantDespawnEvent event) {
-    players.remove(event.getPlayer());
+  void update(MatchPlayer player, boolean inside) {
+    if (inside ? this.players.add(player) : this.players.remove(player)) {
+      if (module != null) module.onMembershipChange(this, player, inside);
+    }
   }
 }
@@ -0,0 +1,138 @@
+package tc.oc.pgm.controlpoint;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerTeleportEvent;
+import org.bukkit.util.Vector;
+import org.jetbrains.annotations.Nullable;
+import tc.oc.pgm.api.match.Match;
+import tc.oc.pgm.api.match.MatchModule;
+import tc.oc.pgm.api.match.MatchScope;
+import tc.oc.pgm.api.player.MatchPlayer;
+import tc.oc.pgm.events.ListenerScope;
+import tc.oc.pgm.regions.RegionIndex;
+import tc.oc.pgm.spawns.events.ParticipantDespawnEvent;
+import tc.oc.pgm.util.MatchPlayers;
+import tc.oc.pgm.util.event.PlayerCoarseMoveEvent;
+
+/**
+ * Handles player movement for every {@link RegionPlayerTracker} of a match at once.
+ *
+ * <p>Each move only checks the trackers whose region may contain the player, found through a
+ * {@link RegionIndex}, and the trackers the player is leaving. Trackers with a moving region, like
+ * payloads, or a region that is not block bounded, are checked on every move.
+ */
+@ListenerScope(MatchScope.RUNNING)
+public class RegionPlayerTrackerMatchModule implements MatchModule, Listener {
+
+  private final Match match;
+  private final List<RegionPlayerTracker> trackers = new ArrayList<>();
+  // The trackers each player is currently in
+  private final Map<MatchPlayer, Set<RegionPlayerTracker>> memberships = new HashMap<>();
+
+  // Built again whenever trackers are added, removed or start moving
+  private @Nullable RegionIndex<RegionPlayerTracker> index;
+  private @Nullable List<RegionPlayerTracker> moving;
+
+  public RegionPlayerTrackerMatchModule(Match match) {
+    this.match = match;
+  }
+
+  public void add(RegionPlayerTracker tracker) {
+    trackers.add(tracker);
+    tracker.setModule(this);
+    for (MatchPlayer player : tracker.getPlayers()) {
+      memberships.computeIfAbsent(player, p -> new HashSet<>()).add(tracker);
+    }
+    invalidate();
+  }
+
+  public void remove(RegionPlayerTracker tracker) {
+    if (!trackers.remove(tracker)) return;
+    tracker.setModule(null);
+    for (MatchPlayer player : tracker.getPlayers()) {
+      Set<RegionPlayerTracker> inside = memberships.get(player);
+      if (inside != null) inside.remove(tracker);
+    }
+    invalidate();
+  }
+
+  void invalidate() {
+    index = null;
+    moving = null;
+  }
+
+  private void buildIndex() {
+    List<RegionPlayerTracker> fixed = new ArrayList<>();
+    moving = new ArrayList<>();
+    for (RegionPlayerTracker tracker : trackers) {
+      // Regions without bounds, like negative ones, would be in every lookup anyway
+      boolean check = tracker.isMoving() || !tracker.getRegion().isBlockBounded();
+      (check ? moving : fixed).add(tracker);
+    }
+    index = new RegionIndex<>(fixed, RegionPlayerTracker::getRegion);
+  }
+
+  void onMembershipChange(RegionPlayerTracker tracker, MatchPlayer player, boolean inside) {
+    if (inside) {
+      memberships.computeIfAbsent(player, p -> new HashSet<>()).add(tracker);
+    } else {
+      Set<RegionPlayerTracker> current = memberships.get(player);
+      if (current != null) current.remove(tracker);
+    }
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+  public void onPlayerMove(final PlayerCoarseMoveEvent event) {
+    this.handlePlayerMove(event.getPlayer(), event.getTo().toVector());
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+  public void onPlayerTeleport(final PlayerTeleportEvent event) {
+    this.handlePlayerMove(event.getPlayer(), event.getTo().toVector());
+  }
+
+  private void handlePlayerMove(Player bukkit, Vector to) {
+    if (trackers.isEmpty()) return;
+
+    MatchPlayer player = this.match.getPlayer(bukkit);
+    if (!MatchPlayers.canInteract(player)) return;
+
+    if (index == null) buildIndex();
+    List<RegionPlayerTracker> candidates = index.get(to);
+
+    // Leave the trackers whose region can't contain the player anymore
+    Set<RegionPlayerTracker> inside = memberships.get(player);
+    if (inside != null && !inside.isEmpty()) {
+      for (RegionPlayerTracker tracker : new ArrayList<>(inside)) {
+        if (!candidates.contains(tracker) && !moving.contains(tracker)) {
+          tracker.update(player, false);
+        }
+      }
+    }
+
+    for (RegionPlayerTracker tracker : candidates) {
+      tracker.update(player, tracker.contains(player, to));
+    }
+    for (RegionPlayerTracker tracker : moving) {
+      tracker.update(player, tracker.contains(player, to));
+    }
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+  public void onPlayerDespawn(final ParticipantDespawnEvent event) {
+    Set<RegionPlayerTracker> inside = memberships.remove(event.getPlayer());
+    if (inside == null) return;
+    for (RegionPlayerTracker tracker : inside) {
+      tracker.getPlayers().remove(event.getPlayer());
+    }
+  }
+}
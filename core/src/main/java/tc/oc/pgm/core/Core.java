@@ -32,6 +32,7 @@ import tc.oc.pgm.modes.Mode;
 import tc.oc.pgm.modes.ModeUtils;
 import tc.oc.pgm.regions.CuboidRegion;
 import tc.oc.pgm.regions.FiniteBlockRegion;
+import tc.oc.pgm.snapshot.SnapshotMatchModule;
 import tc.oc.pgm.teams.Team;
 import tc.oc.pgm.util.StringUtils;
 import tc.oc.pgm.util.material.BlockMaterialData;
@@ -229,6 +230,11 @@ public class Core extends TouchableGoal<CoreFactory>
 
   @Override
   public void replaceBlocks(BlockMaterialData newMaterial) {
+    // Blocks are replaced without events, so the snapshot must save them first
+    match
+        .needModule(SnapshotMatchModule.class)
+        .getOriginalSnapshot()
+        .complete(this.getCasingRegion());
     for (Block block : this.getCasingRegion().getBlocks(match.getWorld())) {
       if (this.isObjectiveMaterial(block)) {
         newMaterial.applyTo(block, true);
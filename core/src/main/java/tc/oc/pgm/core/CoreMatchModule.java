@@ -10,13 +10,14 @@ import org.bukkit.block.Block;
 import org.bukkit.entity.minecart.ExplosiveMinecart;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
-import org.bukkit.event.Listener;
 import org.bukkit.event.block.BlockDamageEvent;
 import org.bukkit.event.block.BlockDispenseEvent;
 import org.bukkit.event.block.BlockPistonExtendEvent;
 import org.bukkit.event.block.BlockPistonRetractEvent;
 import org.bukkit.event.entity.EntityExplodeEvent;
 import org.bukkit.util.Vector;
+import tc.oc.pgm.api.event.BlockTransformBatchEvent;
+import tc.oc.pgm.api.event.BlockTransformBatchEvent.BatchListener;
 import tc.oc.pgm.api.event.BlockTransformEvent;
 import tc.oc.pgm.api.match.Match;
 import tc.oc.pgm.api.match.MatchModule;
@@ -35,7 +36,7 @@ import tc.oc.pgm.util.material.MaterialData;
 import tc.oc.pgm.util.material.Materials;
 
 @ListenerScope(MatchScope.RUNNING)
-public class CoreMatchModule implements MatchModule, Listener {
+public class CoreMatchModule implements MatchModule, BatchListener {
 
   protected final Match match;
   protected final List<Core> cores;
@@ -59,6 +60,12 @@ public class CoreMatchModule implements MatchModule, Listener {
     }
   }
 
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void leakCheck(BlockTransformBatchEvent batch) {
+    if (batch.getWorld() != this.match.getWorld()) return;
+    batch.forEachUncancelled(this::leakCheck);
+  }
+
   @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
   public void leakCheck(final BlockTransformEvent event) {
     if (event.getWorld() != this.match.getWorld()) return;
@@ -85,6 +92,12 @@ public class CoreMatchModule implements MatchModule, Listener {
     }
   }
 
+  @EventHandler(priority = EventPriority.HIGHEST)
+  public void breakCheck(BlockTransformBatchEvent batch) {
+    if (batch.getWorld() != this.match.getWorld()) return;
+    batch.forEachUncancelled(this::breakCheck);
+  }
+
   @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
   public void breakCheck(final BlockTransformEvent event) {
     if (event.getWorld() != this.match.getWorld()) return;
@@ -146,6 +159,12 @@ public class CoreMatchModule implements MatchModule, Listener {
     }
   }
 
+  @EventHandler(priority = EventPriority.HIGHEST)
+  public void lavaProtection(BlockTransformBatchEvent batch) {
+    if (batch.getWorld() != this.match.getWorld()) return;
+    batch.forEachUncancelled(this::lavaProtection);
+  }
+
   @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
   public void lavaProtection(final BlockTransformEvent event) {
     if (event.getWorld() != this.match.getWorld()) return;
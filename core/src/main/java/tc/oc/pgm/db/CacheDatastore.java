@@ -1,17 +1,31 @@
 package tc.oc.pgm.db;
 
+import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
+import com.google.common.cache.Weigher;
+import com.google.common.collect.ImmutableMap;
+import java.time.Duration;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import tc.oc.pgm.api.Config;
 import tc.oc.pgm.api.Datastore;
 import tc.oc.pgm.api.map.MapActivity;
 import tc.oc.pgm.api.player.Username;
 import tc.oc.pgm.api.setting.Settings;
+import tc.oc.pgm.util.TimeUtils;
 import tc.oc.pgm.util.skin.Skin;
 
 @SuppressWarnings({"UnstableApiUsage"})
-public class CacheDatastore implements Datastore {
+public class CacheDatastore implements Datastore, Listener {
 
   private final Datastore datastore;
   private final LoadingCache<UUID, Username> usernames;
@@ -19,10 +33,14 @@ public class CacheDatastore implements Datastore {
   private final LoadingCache<UUID, Skin> skins; // Skins are only stored in cache
   private final LoadingCache<String, MapActivity> activities;
 
-  public CacheDatastore(Datastore datastore) {
+  // Online players are kept out of the bounded caches, so their data is never evicted
+  private final Map<UUID, Settings> onlineSettings = new ConcurrentHashMap<>();
+  private final Map<UUID, Skin> onlineSkins = new ConcurrentHashMap<>();
+
+  public CacheDatastore(Datastore datastore, Config config) {
     this.datastore = datastore;
     this.usernames =
-        CacheBuilder.newBuilder()
+        newBuilder(config.getCacheLimits("usernames"))
             .softValues()
             .build(
                 new CacheLoader<UUID, Username>() {
@@ -32,7 +50,7 @@ public class CacheDatastore implements Datastore {
                   }
                 });
     this.settings =
-        CacheBuilder.newBuilder()
+        newBuilder(config.getCacheLimits("settings"))
             .build(
                 new CacheLoader<UUID, Settings>() {
                   @Override
@@ -41,7 +59,7 @@ public class CacheDatastore implements Datastore {
                   }
                 });
     this.skins =
-        CacheBuilder.newBuilder()
+        newWeighedBuilder(config.getCacheLimits("skins"), (UUID id, Skin skin) -> weigh(skin))
             .build(
                 new CacheLoader<UUID, Skin>() {
                   @Override
@@ -50,7 +68,7 @@ public class CacheDatastore implements Datastore {
                   }
                 });
     this.activities =
-        CacheBuilder.newBuilder()
+        newBuilder(config.getCacheLimits("activities"))
             .build(
                 new CacheLoader<String, MapActivity>() {
                   @Override
@@ -60,6 +78,52 @@ public class CacheDatastore implements Datastore {
                 });
   }
 
+  private static CacheBuilder<Object, Object> newBuilder(Config.CacheLimits limits) {
+    CacheBuilder<Object, Object> builder = newExpiringBuilder(limits);
+    if (limits.getMaxSize() > 0) builder.maximumSize(limits.getMaxSize());
+    return builder;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <K, V> CacheBuilder<K, V> newWeighedBuilder(
+      Config.CacheLimits limits, Weigher<K, V> weigher) {
+    CacheBuilder<Object, Object> builder = newExpiringBuilder(limits);
+    // A weigher can't be used without a maximum weight
+    if (limits.getMaxSize() <= 0) return (CacheBuilder<K, V>) (CacheBuilder<?, ?>) builder;
+    return builder.maximumWeight(limits.getMaxSize() * 1024).weigher(weigher);
+  }
+
+  private static CacheBuilder<Object, Object> newExpiringBuilder(Config.CacheLimits limits) {
+    CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder().recordStats();
+    Duration expiry = limits.getExpireAfterAccess();
+    if (!TimeUtils.isInfinite(expiry)) {
+      builder.expireAfterAccess(expiry.toMillis(), TimeUnit.MILLISECONDS);
+    }
+    return builder;
+  }
+
+  /** Approximate size of a skin in memory, in bytes */
+  private static int weigh(Skin skin) {
+    int weight = 64; // Entry and object overhead
+    if (skin.getData() != null) weight += skin.getData().length();
+    if (skin.getSignature() != null) weight += skin.getSignature().length();
+    return weight;
+  }
+
+  public Datastore getDelegate() {
+    return datastore;
+  }
+
+  /**
+   * Get the caches of this datastore by name, for their statistics.
+   *
+   * @return A map of cache names to caches.
+   */
+  public Map<String, Cache<?, ?>> getCaches() {
+    return ImmutableMap.of(
+        "usernames", usernames, "settings", settings, "skins", skins, "activities", activities);
+  }
+
   @Override
   public Username getUsername(UUID id) {
     return usernames.getUnchecked(id);
@@ -67,17 +131,45 @@ public class CacheDatastore implements Datastore {
 
   @Override
   public Settings getSettings(UUID id) {
-    return settings.getUnchecked(id);
+    Settings online = onlineSettings.get(id);
+    return online != null ? online : settings.getUnchecked(id);
   }
 
   @Override
   public void setSkin(UUID uuid, Skin skin) {
-    skins.put(uuid, skin);
+    if (onlineSettings.containsKey(uuid)) onlineSkins.put(uuid, skin);
+    else skins.put(uuid, skin);
   }
 
   @Override
   public Skin getSkin(UUID id) {
-    return skins.getUnchecked(id);
+    Skin online = onlineSkins.get(id);
+    return online != null ? online : skins.getUnchecked(id);
+  }
+
+  @EventHandler(priority = EventPriority.LOWEST)
+  public void pinOnJoin(PlayerJoinEvent event) {
+    // Quit already happened, so the player would never be unpinned
+    if (!event.getPlayer().isOnline()) return;
+
+    UUID id = event.getPlayer().getUniqueId();
+    onlineSettings.put(id, settings.getUnchecked(id));
+    settings.invalidate(id);
+
+    Skin skin = skins.getIfPresent(id);
+    if (skin != null) onlineSkins.put(id, skin);
+    skins.invalidate(id);
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void unpinOnQuit(PlayerQuitEvent event) {
+    UUID id = event.getPlayer().getUniqueId();
+    // Back to the bounded caches, which may now evict them
+    Settings saved = onlineSettings.remove(id);
+    if (saved != null) settings.put(id, saved);
+
+    Skin skin = onlineSkins.remove(id);
+    if (skin != null) skins.put(id, skin);
   }
 
   @Override
@@ -93,5 +185,7 @@ public class CacheDatastore implements Datastore {
     settings.invalidateAll();
     skins.invalidateAll();
     activities.invalidateAll();
+    onlineSettings.clear();
+    onlineSkins.clear();
   }
 }
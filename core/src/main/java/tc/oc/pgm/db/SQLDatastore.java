@@ -20,6 +20,7 @@ import tc.oc.pgm.api.setting.SettingKey;
 import tc.oc.pgm.api.setting.SettingValue;
 import tc.oc.pgm.api.setting.Settings;
 import tc.oc.pgm.util.concurrent.ThreadSafeConnection;
+import tc.oc.pgm.util.concurrent.WriteBehindQueue;
 import tc.oc.pgm.util.named.NameStyle;
 import tc.oc.pgm.util.skin.Skin;
 import tc.oc.pgm.util.text.TextParser;
@@ -28,8 +29,13 @@ import tc.oc.pgm.util.usernames.UsernameResolvers;
 
 public class SQLDatastore extends ThreadSafeConnection implements Datastore {
 
-  public SQLDatastore(String uri, int maxConnections) throws SQLException {
+  // If not null, writes are coalesced and flushed periodically instead of sent right away
+  private final @Nullable WriteBehindQueue writes;
+
+  public SQLDatastore(String uri, int maxConnections, Duration writeInterval)
+      throws SQLException {
     super(() -> TextParser.parseSqlConnection(uri), maxConnections);
+    this.writes = writeInterval.isZero() ? null : new WriteBehindQueue(this, writeInterval);
 
     submitQuery(
         () ->
@@ -40,6 +46,27 @@ public class SQLDatastore extends ThreadSafeConnection implements Datastore {
             "CREATE TABLE IF NOT EXISTS pools (name VARCHAR(255) PRIMARY KEY, next_map VARCHAR(255), last_active BOOLEAN)");
   }
 
+  private void submitWrite(String key, BatchQuery query) {
+    if (writes != null) writes.submit(key, query);
+    else submitQuery(query);
+  }
+
+  /**
+   * Get the queue of delayed writes, to inspect its metrics.
+   *
+   * @return The write queue, or null if writes are not delayed.
+   */
+  public @Nullable WriteBehindQueue getWriteQueue() {
+    return writes;
+  }
+
+  @Override
+  public void close() {
+    // Flush pending writes while connections are still available
+    if (writes != null) writes.close();
+    super.close();
+  }
+
   private class SQLUsername implements Username {
     private final Duration ONE_WEEK = Duration.ofDays(7);
 
@@ -77,23 +104,23 @@ public class SQLDatastore extends ThreadSafeConnection implements Datastore {
         // Only update names with about over a week of validity
         if (response.getSource() != SqlUsernameResolver.class
             && validUntil.isAfter(Instant.now().plus(ONE_WEEK))) {
-          submitQuery(new UpdateQuery());
+          submitWrite("usernames:" + id, new UpdateQuery());
         }
       }
     }
 
-    private class UpdateQuery implements Query {
+    private class UpdateQuery implements BatchQuery {
       @Override
       public String getFormat() {
         return "REPLACE INTO usernames VALUES (?, ?, ?)";
       }
 
       @Override
-      public void query(PreparedStatement statement) throws SQLException {
+      public void addBatch(PreparedStatement statement) throws SQLException {
         statement.setString(1, id.toString());
         statement.setString(2, name);
         statement.setLong(3, validUntil.toEpochMilli());
-        statement.executeUpdate();
+        statement.addBatch();
       }
     }
   }
@@ -116,7 +143,12 @@ public class SQLDatastore extends ThreadSafeConnection implements Datastore {
       super.setValue(key, value);
 
       if (oldBit == getBit()) return;
-      submitQuery(oldBit <= 0 ? new InsertQuery(value) : new UpdateQuery(value));
+      if (oldBit <= 0) {
+        submitWrite("settings:" + getId(), new InsertQuery(value));
+      } else {
+        // Each setting is updated separately, so only coalesce updates of the same setting
+        submitWrite("settings:" + getId() + ":" + key, new UpdateQuery(value));
+      }
     }
 
     private class SelectQuery implements Query {
@@ -137,7 +169,7 @@ public class SQLDatastore extends ThreadSafeConnection implements Datastore {
       }
     }
 
-    private class InsertQuery implements Query {
+    private class InsertQuery implements BatchQuery {
 
       private final SettingValue value;
 
@@ -151,15 +183,14 @@ public class SQLDatastore extends ThreadSafeConnection implements Datastore {
       }
 
       @Override
-      public void query(PreparedStatement statement) throws SQLException {
+      public void addBatch(PreparedStatement statement) throws SQLException {
         statement.setString(1, getId().toString());
         statement.setLong(2, bitSettings(value));
-
-        statement.executeUpdate();
+        statement.addBatch();
       }
     }
 
-    private class UpdateQuery implements Query {
+    private class UpdateQuery implements BatchQuery {
 
       private final SettingValue value;
 
@@ -173,17 +204,14 @@ public class SQLDatastore extends ThreadSafeConnection implements Datastore {
       }
 
       @Override
-      public void query(PreparedStatement statement) throws SQLException {
-        statement.setLong(2, bitSettings(value));
-        statement.setString(3, getId().toString());
-
+      public void addBatch(PreparedStatement statement) throws SQLException {
         for (SettingValue unset : value.getKey().getPossibleValues()) {
           if (unset == value) continue;
           statement.setLong(1, bitSettings(unset));
+          statement.setLong(2, bitSettings(value));
+          statement.setString(3, getId().toString());
           statement.addBatch();
         }
-
-        statement.executeBatch();
       }
     }
   }
@@ -222,7 +250,7 @@ public class SQLDatastore extends ThreadSafeConnection implements Datastore {
     @Override
     public void update(@Nullable String nextMap, boolean active) {
       super.update(nextMap, active);
-      submitQuery(new UpdateQuery());
+      submitWrite("pools:" + getPoolName(), new UpdateQuery());
     }
 
     private class SelectQuery implements Query {
@@ -246,7 +274,7 @@ public class SQLDatastore extends ThreadSafeConnection implements Datastore {
       }
     }
 
-    private class UpdateQuery implements Query {
+    private class UpdateQuery implements BatchQuery {
 
       @Override
       public String getFormat() {
@@ -254,12 +282,11 @@ public class SQLDatastore extends ThreadSafeConnection implements Datastore {
       }
 
       @Override
-      public void query(PreparedStatement statement) throws SQLException {
+      public void addBatch(PreparedStatement statement) throws SQLException {
         statement.setString(1, getPoolName());
         statement.setString(2, getMapName());
         statement.setBoolean(3, isActive());
-
-        statement.executeUpdate();
+        statement.addBatch();
       }
     }
   }
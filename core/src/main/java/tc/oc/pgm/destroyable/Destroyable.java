@@ -48,6 +48,7 @@ import tc.oc.pgm.goals.events.GoalStatusChangeEvent;
 import tc.oc.pgm.modes.Mode;
 import tc.oc.pgm.modes.ModeUtils;
 import tc.oc.pgm.regions.FiniteBlockRegion;
+import tc.oc.pgm.snapshot.SnapshotMatchModule;
 import tc.oc.pgm.teams.Team;
 import tc.oc.pgm.util.StringUtils;
 import tc.oc.pgm.util.block.BlockVectors;
@@ -589,6 +590,11 @@ public class Destroyable extends TouchableGoal<DestroyableFactory>
     // of the destroyable: individual block health can only decrease, while the total health
     // percentage can only increase.
 
+    // Blocks are replaced without events, so the snapshot must save them first
+    match
+        .needModule(SnapshotMatchModule.class)
+        .getOriginalSnapshot()
+        .complete(this.getBlockRegion());
     for (Block block : this.getBlockRegion().getBlocks(match.getWorld())) {
       BlockState oldState = block.getState();
       int oldHealth = this.getBlockHealth(oldState);
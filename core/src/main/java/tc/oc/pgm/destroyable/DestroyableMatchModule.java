@@ -7,11 +7,12 @@ import org.bukkit.block.Block;
 import org.bukkit.entity.minecart.ExplosiveMinecart;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
-import org.bukkit.event.Listener;
 import org.bukkit.event.block.BlockDamageEvent;
 import org.bukkit.event.block.BlockPistonExtendEvent;
 import org.bukkit.event.block.BlockPistonRetractEvent;
 import org.bukkit.event.entity.EntityExplodeEvent;
+import tc.oc.pgm.api.event.BlockTransformBatchEvent;
+import tc.oc.pgm.api.event.BlockTransformBatchEvent.BatchListener;
 import tc.oc.pgm.api.event.BlockTransformEvent;
 import tc.oc.pgm.api.match.Match;
 import tc.oc.pgm.api.match.MatchModule;
@@ -25,7 +26,7 @@ import tc.oc.pgm.modes.ObjectiveModeChangeEvent;
 import tc.oc.pgm.util.material.MaterialData;
 
 @ListenerScope(MatchScope.RUNNING)
-public class DestroyableMatchModule implements MatchModule, Listener {
+public class DestroyableMatchModule implements MatchModule, BatchListener {
   protected final Match match;
   protected final Collection<Destroyable> destroyables;
 
@@ -52,6 +53,12 @@ public class DestroyableMatchModule implements MatchModule, Listener {
    * This handler only checks to see if the event should be cancelled. It does not change the state
    * of any Destroyables.
    */
+  @EventHandler(priority = EventPriority.HIGHEST)
+  public void testBlockChange(BlockTransformBatchEvent batch) {
+    if (batch.getWorld() != this.match.getWorld()) return;
+    batch.forEachUncancelled(this::testBlockChange);
+  }
+
   @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
   public void testBlockChange(BlockTransformEvent event) {
     if (this.match.getWorld() != event.getWorld() || !this.anyDestroyableAffected(event)) {
@@ -90,6 +97,12 @@ public class DestroyableMatchModule implements MatchModule, Listener {
    * This handler updates the state of Destroyables to reflect the block change, which is now
    * definitely happening since this is listening on MONITOR.
    */
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void handleBlockChange(BlockTransformBatchEvent batch) {
+    if (batch.getWorld() != this.match.getWorld()) return;
+    batch.forEachUncancelled(this::handleBlockChange);
+  }
+
   @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
   public void handleBlockChange(BlockTransformEvent event) {
     if (this.match.getWorld() != event.getWorld() || !this.anyDestroyableAffected(event)) {
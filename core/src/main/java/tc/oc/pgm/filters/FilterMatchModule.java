@@ -4,11 +4,12 @@ import static tc.oc.pgm.util.bukkit.MiscUtils.MISC_UTILS;
 import static tc.oc.pgm.util.nms.NMSHacks.NMS_HACKS;
 
 import com.google.common.collect.HashBasedTable;
-import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.Sets;
 import com.google.common.collect.Table;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import java.lang.invoke.MethodHandle;
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -27,6 +28,7 @@ import org.bukkit.event.EventPriority;
 import org.bukkit.event.HandlerList;
 import org.bukkit.event.Listener;
 import org.bukkit.plugin.EventExecutor;
+import org.jetbrains.annotations.Nullable;
 import tc.oc.pgm.api.PGM;
 import tc.oc.pgm.api.filter.Filter;
 import tc.oc.pgm.api.filter.FilterListener;
@@ -45,7 +47,6 @@ import tc.oc.pgm.api.time.Tick;
 import tc.oc.pgm.events.ListenerScope;
 import tc.oc.pgm.events.PlayerPartyChangeEvent;
 import tc.oc.pgm.flag.event.FlagStateChangeEvent;
-import tc.oc.pgm.util.MapUtils;
 import tc.oc.pgm.util.MethodHandleUtils;
 import tc.oc.pgm.util.collection.ContextStore;
 import tc.oc.pgm.util.event.PlayerCoarseMoveEvent;
@@ -80,11 +81,47 @@ public class FilterMatchModule implements MatchModule, FilterDispatcher, Tickabl
   private final Table<Filter, Class<? extends Filterable<?>>, ListenerSet> listeners =
       HashBasedTable.create();
 
+  // Dense ids for each filter with listeners, used to index bitsets
+  private final Object2IntMap<Filter> filterIds = new Object2IntOpenHashMap<>();
+
+  // Listeners for each scope in Filterables.SCOPES, flattened for fast iteration (null when stale)
+  private ListenerSet[][] listenersByScope;
+
   // Most recent responses for each filter with listeners (used to detect changes)
-  private final Table<Filter, Filterable<?>, Boolean> lastResponses = HashBasedTable.create();
+  private final FilterResponseCache lastResponses = new FilterResponseCache();
+
+  // Ids of filterables that need a check in the next tick (cleared every tick)
+  private final BitSet dirtySet = new BitSet();
+
+  // Ids of filterables in the dirtySet that need a check of every filter
+  private final BitSet fullyDirtySet = new BitSet();
+
+  // Filter ids that need a check for each filterable id in the dirtySet, but not in fullyDirtySet
+  private BitSet[] partiallyDirtyFilters = new BitSet[32];
+
+  // Listened filter ids that may change their response when the key filter changes its response
+  private final Map<Filter, BitSet> dependentFilters = new HashMap<>();
+
+  // Listened filter ids that may change their response when the key event is fired
+  private final Map<Class<? extends Event>, BitSet> eventFilters = new HashMap<>();
 
-  // Filterables that need a check in the next tick (cleared every tick)
-  private final Set<Filterable<?>> dirtySet = new HashSet<>();
+  // Scratch state reused by every tick, so steady state ticks don't allocate
+  private final BitSet checked = new BitSet();
+  private final BitSet checking = new BitSet();
+  private final BitSet checkedFilters = new BitSet();
+  private final BitSet knownBefore = new BitSet();
+  private final BitSet responsesBefore = new BitSet();
+  private final DispatchBuffer dispatches = new DispatchBuffer();
+  private boolean ticking;
+
+  // When enabled, moves only check the moving player and defer everything else to a single tick
+  private final boolean batchMoveChecks;
+  private final Runnable deferredTick = this::deferredTick;
+  private boolean tickScheduled;
+
+  private long moveChecks;
+  private long moveTicksAvoided;
+  private long moveCheckNanos;
 
   /**
    * Create the FilterMatchModule
@@ -96,11 +133,62 @@ public class FilterMatchModule implements MatchModule, FilterDispatcher, Tickabl
   public FilterMatchModule(Match match, ContextStore<? super Filter> filterContext) {
     this.match = match;
     this.filterContext = filterContext;
+    this.filterIds.defaultReturnValue(-1);
+    this.batchMoveChecks =
+        PGM.get().getConfiguration().getExperimentAsBool("batch-move-checks", false);
   }
 
   private static class ListenerSet {
+    final Filter filter;
+    final int filterId;
     final Set<FilterListener<?>> rise = new HashSet<>();
     final Set<FilterListener<?>> fall = new HashSet<>();
+
+    // Copies of the sets above, for iterating without allocation
+    FilterListener<?>[] riseArray = new FilterListener<?>[0];
+    FilterListener<?>[] fallArray = new FilterListener<?>[0];
+
+    ListenerSet(Filter filter, int filterId) {
+      this.filter = filter;
+      this.filterId = filterId;
+    }
+
+    void add(boolean response, FilterListener<?> listener) {
+      if (response) {
+        if (rise.add(listener)) riseArray = rise.toArray(riseArray);
+      } else {
+        if (fall.add(listener)) fallArray = fall.toArray(fallArray);
+      }
+    }
+  }
+
+  /**
+   * Pending dispatches collected during a check, stored in reusable parallel arrays instead of a
+   * closure per dispatch.
+   */
+  private static class DispatchBuffer {
+    Filterable<?>[] filterables = new Filterable<?>[16];
+    ListenerSet[] listeners = new ListenerSet[16];
+    boolean[] responses = new boolean[16];
+    int size;
+
+    void add(Filterable<?> filterable, ListenerSet listenerSet, boolean response) {
+      if (size == filterables.length) {
+        filterables = Arrays.copyOf(filterables, size * 2);
+        listeners = Arrays.copyOf(listeners, size * 2);
+        responses = Arrays.copyOf(responses, size * 2);
+      }
+      filterables[size] = filterable;
+      listeners[size] = listenerSet;
+      responses[size] = response;
+      size++;
+    }
+
+    void clear() {
+      Arrays.fill(filterables, 0, size, null);
+      Arrays.fill(listeners, 0, size, null);
+      size = 0;
+    }
   }
 
   public ContextStore<? super Filter> getFilterContext() {
@@ -125,6 +213,7 @@ public class FilterMatchModule implements MatchModule, FilterDispatcher, Tickabl
             .warning("Filter " + filter + " was submitted as a dynamic filter but is not!");
         return;
       }
+      this.registerDependencies(filter);
       this.registerListenersFor(filter.getRelevantEvents());
     });
     // We always need to register this to handle players leaving the match cleaning-up filters.
@@ -155,6 +244,20 @@ public class FilterMatchModule implements MatchModule, FilterDispatcher, Tickabl
     }
   }
 
+  /**
+   * Index a listened filter by everything that can cause its response to change, so that
+   * invalidations can re-check only the filters which may be affected.
+   */
+  private void registerDependencies(Filter filter) {
+    final int filterId = this.filterIds.getInt(filter);
+    filter.deepDependencies(Filter.class).forEach(dep -> this.dependentFilters
+        .computeIfAbsent(dep, d -> new BitSet())
+        .set(filterId));
+    for (Class<? extends Event> event : filter.getRelevantEvents()) {
+      this.eventFilters.computeIfAbsent(event, e -> new BitSet()).set(filterId);
+    }
+  }
+
   private void findAndCreateReactorFactories(Filter filter) {
     filter.deepDependencies(Filter.class).forEach(dep -> {
       if (dep instanceof ReactorFactory<?> rf) rf.register(match, this);
@@ -194,10 +297,13 @@ public class FilterMatchModule implements MatchModule, FilterDispatcher, Tickabl
           "Filter " + filter + " doesn't respond to " + scope.getSimpleName() + " scope.");
     }
 
+    if (!this.filterIds.containsKey(filter)) this.filterIds.put(filter, this.filterIds.size());
+    final int filterId = this.filterIds.getInt(filter);
     final ListenerSet listenerSet =
-        this.listeners.row(filter).computeIfAbsent(scope, s -> new ListenerSet());
+        this.listeners.row(filter).computeIfAbsent(scope, s -> new ListenerSet(filter, filterId));
 
-    (response ? listenerSet.rise : listenerSet.fall).add(listener);
+    listenerSet.add(response, listener);
+    this.listenersByScope = null;
   }
 
   /**
@@ -265,7 +371,25 @@ public class FilterMatchModule implements MatchModule, FilterDispatcher, Tickabl
 
   /** Returns the last response a given filter gave to a given filterable */
   private boolean lastResponse(Filter filter, Filterable<?> filterable) {
-    return MapUtils.computeIfAbsent(this.lastResponses.row(filter), filterable, filter::response);
+    final int id = this.lastResponses.id(filterable);
+    final int filterId = this.filterIds.getInt(filter);
+    if (!this.lastResponses.isKnown(id, filterId)) {
+      this.lastResponses.setResponse(id, filterId, filter.response(filterable));
+    }
+    return this.lastResponses.response(id, filterId);
+  }
+
+  /** Listeners for each scope in {@link Filterables#SCOPES}, rebuilt after any registration */
+  private ListenerSet[][] getListenersByScope() {
+    if (this.listenersByScope == null) {
+      final List<Class<? extends Filterable<?>>> scopes = Filterables.SCOPES;
+      final ListenerSet[][] byScope = new ListenerSet[scopes.size()][];
+      for (int i = 0; i < byScope.length; i++) {
+        byScope[i] = this.listeners.column(scopes.get(i)).values().toArray(new ListenerSet[0]);
+      }
+      this.listenersByScope = byScope;
+    }
+    return this.listenersByScope;
   }
 
   /**
@@ -295,60 +419,72 @@ public class FilterMatchModule implements MatchModule, FilterDispatcher, Tickabl
 
   /**
    * Checks the response for a query for all filters that fits a scope, if any response is different
-   * than the last cached response and the filter cares about the change a runnable where the
-   * dispatching of the new response is done is created and stored in the provided list.
+   * than the last cached response and the filter cares about the change the dispatching of the new
+   * response is added to the dispatch buffer.
    *
    * @param filterable the scope for this check
+   * @param id the id of the filterable in the response cache
    * @param query the query to check against some filters
-   * @param dispatches will get a runnable for each matching filter that has a new response
+   * @param filters the ids of the filters to check, or null to check every filter
    */
-  private <F extends Filterable<?>, Q extends Query> void check(
-      F filterable, Q query, List<Runnable> dispatches) {
-    final Map<Filter, Boolean> beforeCache = new HashMap<>();
-    final Map<Filter, Boolean> afterCache = this.lastResponses.column(filterable);
+  private <Q extends Query> void check(
+      Filterable<?> filterable, int id, Q query, @Nullable BitSet filters) {
+    this.checkedFilters.clear();
 
+    final ListenerSet[][] byScope = this.getListenersByScope();
+    final List<Class<? extends Filterable<?>>> scopes = Filterables.SCOPES;
     // For each scope that the given filterable applies to
-    this.listeners.columnMap().forEach((scope, column) -> {
-      if (scope.isInstance(filterable)) {
-        // For each filter in this scope
-        column.forEach((filter, filterListeners) -> {
-          final Boolean before;
-          final boolean after;
-          if (beforeCache.containsKey(filter)) {
-            // If the filter has already been checked, we have both responses saved.
-            before = beforeCache.get(filter);
-            after = afterCache.get(filter);
-          } else {
-            // The first time a particular filter is checked, move the old response to
-            // a local temporary cache and save the new response to the permanent cache.
-            before = afterCache.get(filter);
-            beforeCache.put(filter, before);
-            after = filter.response(query);
-            afterCache.put(filter, after);
-          }
+    for (int i = 0; i < byScope.length; i++) {
+      if (!scopes.get(i).isInstance(filterable)) continue;
+
+      // For each filter in this scope
+      for (ListenerSet filterListeners : byScope[i]) {
+        final int filterId = filterListeners.filterId;
+        if (filters != null && !filters.get(filterId)) continue;
+
+        final boolean known;
+        final boolean before;
+        final boolean after;
+        if (this.checkedFilters.get(filterId)) {
+          // If the filter has already been checked, we have both responses saved.
+          known = this.knownBefore.get(filterId);
+          before = this.responsesBefore.get(filterId);
+          after = this.lastResponses.response(id, filterId);
+        } else {
+          // The first time a particular filter is checked, move the old response to
+          // a local temporary cache and save the new response to the permanent cache.
+          this.checkedFilters.set(filterId);
+          known = this.lastResponses.isKnown(id, filterId);
+          before = this.lastResponses.response(id, filterId);
+          this.knownBefore.set(filterId, known);
+          this.responsesBefore.set(filterId, before);
+          after = filterListeners.filter.response(query);
+          this.lastResponses.setResponse(id, filterId, after);
+        }
 
-          if (before == null || before != after) {
-            dispatches.add(() -> (after ? filterListeners.rise : filterListeners.fall)
-                .forEach(listener ->
-                    dispatch((FilterListener<? super F>) listener, filter, filterable, after)));
-          }
-        });
+        if (!known || before != after) {
+          this.dispatches.add(filterable, filterListeners, after);
+        }
       }
-    });
+    }
   }
 
-  /**
-   * Checks the response for a query for all filters that fits a scope. If the response is different
-   * from the last cached response and the filters cares about the change the responses are
-   * dispatched to all the filters after the check is done.
-   *
-   * @param filterable the scope for this check
-   * @param query the query to check against some filters
-   */
-  private <F extends Filterable<?>, Q extends Query> void check(F filterable, Q query) {
-    final List<Runnable> dispatches = new ArrayList<>();
-    check(filterable, query, dispatches);
-    dispatches.forEach(Runnable::run);
+  /** Run and clear all pending dispatches */
+  @SuppressWarnings("unchecked")
+  private void runDispatches() {
+    // Listeners can't trigger a nested tick, so the buffer won't change while running it
+    final DispatchBuffer buffer = this.dispatches;
+    for (int i = 0; i < buffer.size; i++) {
+      final Filterable<?> filterable = buffer.filterables[i];
+      final ListenerSet filterListeners = buffer.listeners[i];
+      final boolean response = buffer.responses[i];
+      for (FilterListener<?> listener :
+          response ? filterListeners.riseArray : filterListeners.fallArray) {
+        dispatch(
+            (FilterListener<Filterable<?>>) listener, filterListeners.filter, filterable, response);
+      }
+    }
+    buffer.clear();
   }
 
   @Override
@@ -357,39 +493,178 @@ public class FilterMatchModule implements MatchModule, FilterDispatcher, Tickabl
   }
 
   public void tick() {
-    final Set<Filterable<?>> checked = new HashSet<>();
-    Set<Filterable<?>> checking;
-    // Collect Filterables that are dirty, and have not already been checked in this tick
-    while (!(checking = ImmutableSet.copyOf(Sets.difference(dirtySet, checked))).isEmpty()) {
-      // Remove what we are about to check from the dirty set, and add them to the checked set
-      dirtySet.removeAll(checking);
-      checked.addAll(checking);
-
-      // Do all the filter checks and collect the notifications in a list to dispatch afterward.
-      // This prevents listeners from altering the results of filters for other listeners that
-      // were invalidated at the same time.
-      final List<Runnable> dispatches = new ArrayList<>();
-      checking.forEach(f -> check(f, f, dispatches));
-
-      // The Listeners might invalidate more Filterables, which is why we have to loop around
-      // and empty the dirtySet again after this. We keep looping until there is nothing more
-      // we can check in this tick. If they invalidate something that has already been checked
-      // in this tick, it will remain in the dirtySet until the next tick.
-      dispatches.forEach(Runnable::run);
+    // Listeners could end up calling this again, let the outer loop pick up their invalidations
+    if (ticking) return;
+    ticking = true;
+
+    try {
+      checked.clear();
+      // Collect Filterables that are dirty, and have not already been checked in this tick
+      while (collectDirty()) {
+        // Remove what we are about to check from the dirty set, and add them to the checked set
+        dirtySet.andNot(checking);
+        checked.or(checking);
+
+        // Do all the filter checks and collect the notifications in a buffer to dispatch
+        // afterward. This prevents listeners from altering the results of filters for other
+        // listeners that were invalidated at the same time.
+        for (int id = checking.nextSetBit(0); id >= 0; id = checking.nextSetBit(id + 1)) {
+          final Filterable<?> filterable = lastResponses.get(id);
+          final BitSet filters = fullyDirtySet.get(id) ? null : partiallyDirtyFilters[id];
+          if (filterable != null) check(filterable, id, filterable, filters);
+
+          fullyDirtySet.clear(id);
+          partiallyDirtyFilters[id].clear();
+        }
+
+        // The Listeners might invalidate more Filterables, which is why we have to loop around
+        // and empty the dirtySet again after this. We keep looping until there is nothing more
+        // we can check in this tick. If they invalidate something that has already been checked
+        // in this tick, it will remain in the dirtySet until the next tick.
+        runDispatches();
+      }
+    } finally {
+      ticking = false;
+    }
+  }
+
+  private void deferredTick() {
+    this.tickScheduled = false;
+    this.tick();
+  }
+
+  /**
+   * Immediately check a single dirty filterable, without checking anything else that is dirty.
+   * Anything invalidated by the resulting dispatches is left for the next tick.
+   */
+  private void checkNow(Filterable<?> filterable) {
+    // A tick is in progress, it will either check this or leave it for the next one
+    if (ticking) return;
+
+    final int id = lastResponses.find(filterable);
+    if (id == -1 || !dirtySet.get(id)) return;
+
+    ticking = true;
+    try {
+      dirtySet.clear(id);
+      check(filterable, id, filterable, fullyDirtySet.get(id) ? null : partiallyDirtyFilters[id]);
+      fullyDirtySet.clear(id);
+      partiallyDirtyFilters[id].clear();
+
+      runDispatches();
+    } finally {
+      ticking = false;
+    }
+  }
+
+  /** Number of moves that checked only the moving player, when batch move checks are enabled */
+  public long getMoveChecks() {
+    return moveChecks;
+  }
+
+  /** Number of moves that did not need to schedule a full tick of their own */
+  public long getMoveTicksAvoided() {
+    return moveTicksAvoided;
+  }
+
+  /** Total time spent checking moving players, in nanoseconds */
+  public long getMoveCheckNanos() {
+    return moveCheckNanos;
+  }
+
+  public boolean isBatchingMoveChecks() {
+    return batchMoveChecks;
+  }
+
+  /**
+   * Collect the ids of dirty filterables that have not been checked yet in this tick.
+   *
+   * @return whether there is anything to check
+   */
+  private boolean collectDirty() {
+    checking.clear();
+    checking.or(dirtySet);
+    checking.andNot(checked);
+    return !checking.isEmpty();
+  }
+
+  /** Get the filter ids pending a check for the given filterable id */
+  private BitSet partiallyDirtyFilters(int id) {
+    if (id >= partiallyDirtyFilters.length) {
+      partiallyDirtyFilters =
+          Arrays.copyOf(partiallyDirtyFilters, Math.max(id + 1, partiallyDirtyFilters.length * 2));
     }
+    BitSet filters = partiallyDirtyFilters[id];
+    if (filters == null) filters = partiallyDirtyFilters[id] = new BitSet();
+    return filters;
   }
 
+  /** Invalidate every filter for the filterable and its children */
   public void invalidate(Filterable<?> filterable) {
     // Ignore invalidations from other matches
     if (filterable instanceof MatchPlayer mp && mp.getMatch() != match) return;
-    if (dirtySet.add(Objects.requireNonNull(filterable))) {
+    final int id = lastResponses.id(Objects.requireNonNull(filterable));
+    if (!fullyDirtySet.get(id)) {
+      fullyDirtySet.set(id);
+      dirtySet.set(id);
+      partiallyDirtyFilters(id).clear();
       filterable.getFilterableChildren().forEach(this::invalidate);
     }
   }
 
-  /** TODO: optimize using the filter parameter */
+  /**
+   * Invalidate only the listened filters that depend on the given filter, for the filterable and
+   * its children. Falls back to invalidating every filter if the dependents of the filter are
+   * unknown.
+   */
   public void invalidate(Filter filter, Filterable<?> filterable) {
-    invalidate(filterable);
+    invalidate(dependentFilters.get(filter), filterable);
+  }
+
+  /**
+   * Invalidate only the listened filters that may respond to the given event, for the filterable
+   * and its children.
+   */
+  private void invalidate(Class<? extends Event> event, Filterable<?> filterable) {
+    invalidate(eventFilters.get(event), filterable);
+  }
+
+  private void invalidate(@Nullable BitSet filters, Filterable<?> filterable) {
+    if (filters == null) {
+      invalidate(filterable);
+      return;
+    }
+
+    // Ignore invalidations from other matches
+    if (filterable instanceof MatchPlayer mp && mp.getMatch() != match) return;
+    final int id = lastResponses.id(Objects.requireNonNull(filterable));
+    // Already fully invalidated, nothing else to do
+    if (fullyDirtySet.get(id)) return;
+
+    final BitSet pending = partiallyDirtyFilters(id);
+    boolean changed = false;
+    for (int f = filters.nextSetBit(0); f >= 0; f = filters.nextSetBit(f + 1)) {
+      if (!pending.get(f)) {
+        pending.set(f);
+        changed = true;
+      }
+    }
+
+    if (changed) {
+      dirtySet.set(id);
+      for (Filterable<?> child : filterable.getFilterableChildren()) {
+        invalidate(filters, child);
+      }
+    }
+  }
+
+  /** Forget all state about a filterable that is leaving the match */
+  private void remove(Filterable<?> filterable) {
+    final int id = lastResponses.remove(filterable);
+    if (id == -1) return;
+    dirtySet.clear(id);
+    fullyDirtySet.clear(id);
+    partiallyDirtyFilters(id).clear();
   }
 
   private void registerListenersFor(Collection<Class<? extends Event>> relevantEvents) {
@@ -423,10 +698,10 @@ public class FilterMatchModule implements MatchModule, FilterDispatcher, Tickabl
             final Object o = handle.invoke(e);
             if (o instanceof Player) {
               MatchPlayer mp = this.match.getPlayer((Player) o);
-              if (mp != null) invalidate(mp);
+              if (mp != null) invalidate(event, mp);
               else match.getLogger().warning("MatchPlayer not found for player " + o);
             } else if (o instanceof Filterable) {
-              this.invalidate((Filterable<?>) o);
+              this.invalidate(event, (Filterable<?>) o);
             } else {
               throw new IllegalStateException(
                   "A cached MethodHandle returned a non-expected type. Was: " + o.getClass());
@@ -453,18 +728,39 @@ public class FilterMatchModule implements MatchModule, FilterDispatcher, Tickabl
     // tick) which would make region checks highly unreliable.
     MatchPlayer player = match.getPlayer(event.getPlayer());
 
-    if (player != null) {
-      this.invalidate(player);
+    if (player == null) return;
+
+    this.invalidate(PlayerCoarseMoveEvent.class, player);
+    if (!batchMoveChecks) {
       NMS_HACKS.postToMainThread(PGM.get(), true, this::tick);
+      return;
+    }
+
+    // The move has not been applied yet, so only check the moving player once it has, and let at
+    // most one tick be pending for anything else their move caused to be invalidated
+    NMS_HACKS.postToMainThread(PGM.get(), true, () -> checkMoved(player));
+  }
+
+  private void checkMoved(MatchPlayer player) {
+    final long start = System.nanoTime();
+    this.checkNow(player);
+    this.moveCheckNanos += System.nanoTime() - start;
+    this.moveChecks++;
+
+    if (tickScheduled || dirtySet.isEmpty()) {
+      this.moveTicksAvoided++;
+    } else {
+      this.tickScheduled = true;
+      NMS_HACKS.postToMainThread(PGM.get(), true, deferredTick);
     }
   }
 
   public void onPlayerDeath(MatchPlayerDeathEvent event) {
-    invalidate(event.getVictim());
+    invalidate(MatchPlayerDeathEvent.class, event.getVictim());
     ParticipantState killer = event.getKiller();
 
     if (killer != null && killer.getPlayer().isPresent()) {
-      invalidate(killer.getPlayer().get());
+      invalidate(MatchPlayerDeathEvent.class, killer.getPlayer().get());
     }
   }
 
@@ -485,8 +781,10 @@ public class FilterMatchModule implements MatchModule, FilterDispatcher, Tickabl
           // For each filter in this scope
           column.forEach((filter, filterListeners) -> {
             // If player joined very recently, they may not have a cached response yet
-            final Boolean response = this.lastResponses.get(filter, event.getPlayer());
-            if (response != null && response) {
+            final int id = this.lastResponses.find(event.getPlayer());
+            if (id != -1
+                && this.lastResponses.isKnown(id, filterListeners.filterId)
+                && this.lastResponses.response(id, filterListeners.filterId)) {
               filterListeners.fall.forEach(listener -> dispatch(
                   (FilterListener<? super MatchPlayer>) listener,
                   filter,
@@ -499,21 +797,19 @@ public class FilterMatchModule implements MatchModule, FilterDispatcher, Tickabl
 
       if (MISC_UTILS.yield(event)) {
         // Wait until after the event to remove them, in case they get invalidated during the event.
-        dirtySet.remove(event.getPlayer());
-        this.lastResponses.columnKeySet().remove(event.getPlayer());
+        this.remove(event.getPlayer());
       } else {
         var matchPlayer = event.getPlayer();
         // Clean up next time tasks are handled. Most platforms don't include event.yield()
         NMS_HACKS.postToMainThread(PGM.get(), true, () -> {
-          this.dirtySet.remove(matchPlayer);
-          this.lastResponses.columnKeySet().remove(matchPlayer);
+          this.remove(matchPlayer);
         });
       }
     }
   }
 
   public void onFlagStateChange(FlagStateChangeEvent event) {
-    this.invalidate(match);
+    this.invalidate(FlagStateChangeEvent.class, match);
   }
 
   private static class DummyListener implements Listener {}
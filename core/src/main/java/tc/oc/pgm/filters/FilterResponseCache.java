@@ -0,0 +1,97 @@
+package tc.oc.pgm.filters;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import java.util.Arrays;
+import java.util.BitSet;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Most recent responses of dynamic filters, stored as bits in a dense grid of filterable ids by
+ * filter ids.
+ *
+ * <p>Filterables are given an id the first time they are seen, which is recycled once they are
+ * removed. Filter ids are handed out by the caller, and are expected to be small and dense. Once
+ * the grid has grown to fit every filterable, reads and writes do not allocate.
+ */
+class FilterResponseCache {
+
+  private final Object2IntMap<Filterable<?>> ids = new Object2IntOpenHashMap<>();
+  private final IntArrayList freeIds = new IntArrayList();
+  private int nextId;
+
+  private Filterable<?>[] filterables = new Filterable<?>[32];
+  private BitSet[] known = new BitSet[32];
+  private BitSet[] responses = new BitSet[32];
+
+  FilterResponseCache() {
+    this.ids.defaultReturnValue(-1);
+  }
+
+  /** Get the id of the filterable, or -1 if it has none */
+  int find(Filterable<?> filterable) {
+    return ids.getInt(filterable);
+  }
+
+  /** Get the id of the filterable, assigning a new one if it has none */
+  int id(Filterable<?> filterable) {
+    int id = ids.getInt(filterable);
+    if (id != -1) return id;
+
+    if (!freeIds.isEmpty()) {
+      id = freeIds.popInt();
+    } else {
+      id = nextId++;
+      if (id >= filterables.length) grow(id + 1);
+      known[id] = new BitSet();
+      responses[id] = new BitSet();
+    }
+
+    ids.put(filterable, id);
+    filterables[id] = filterable;
+    return id;
+  }
+
+  /** Get the filterable with the given id, or null if the id is not in use */
+  @Nullable
+  Filterable<?> get(int id) {
+    return id < filterables.length ? filterables[id] : null;
+  }
+
+  boolean isKnown(int id, int filterId) {
+    return known[id].get(filterId);
+  }
+
+  boolean response(int id, int filterId) {
+    return responses[id].get(filterId);
+  }
+
+  void setResponse(int id, int filterId, boolean response) {
+    known[id].set(filterId);
+    responses[id].set(filterId, response);
+  }
+
+  /**
+   * Forget every response for the filterable, and free its id for reuse.
+   *
+   * @return the id the filterable had, or -1 if it had none
+   */
+  int remove(Filterable<?> filterable) {
+    int id = ids.removeInt(filterable);
+    if (id == -1) return -1;
+
+    filterables[id] = null;
+    known[id].clear();
+    responses[id].clear();
+    freeIds.add(id);
+    return id;
+  }
+
+  private void grow(int minCapacity) {
+    int capacity = Math.max(minCapacity, filterables.length * 2);
+    filterables = Arrays.copyOf(filterables, capacity);
+    known = Arrays.copyOf(known, capacity);
+    responses = Arrays.copyOf(responses, capacity);
+  }
+}
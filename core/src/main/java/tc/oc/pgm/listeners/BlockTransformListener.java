@@ -7,11 +7,21 @@ import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.ListMultimap;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
 import org.bukkit.Material;
@@ -21,7 +31,6 @@ import org.bukkit.block.BlockState;
 import org.bukkit.entity.Player;
 import org.bukkit.entity.TNTPrimed;
 import org.bukkit.event.Event;
-import org.bukkit.event.EventException;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
@@ -50,8 +59,11 @@ import org.bukkit.material.Door;
 import org.bukkit.plugin.EventExecutor;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.plugin.PluginManager;
+import org.bukkit.plugin.RegisteredListener;
 import org.jetbrains.annotations.Nullable;
 import tc.oc.pgm.api.PGM;
+import tc.oc.pgm.api.event.BlockTransformBatchEvent;
+import tc.oc.pgm.api.event.BlockTransformBatchEvent.BatchListener;
 import tc.oc.pgm.api.event.BlockTransformEvent;
 import tc.oc.pgm.api.match.Match;
 import tc.oc.pgm.api.player.MatchPlayer;
@@ -75,6 +87,9 @@ public class BlockTransformListener implements Listener {
     BlockFace.WEST, BlockFace.EAST, BlockFace.DOWN, BlockFace.UP, BlockFace.NORTH, BlockFace.SOUTH
   };
 
+  private static final Predicate<RegisteredListener> NOT_BATCHED =
+      registration -> !(registration.getListener() instanceof BatchListener);
+
   @Retention(RetentionPolicy.RUNTIME)
   @interface EventWrapper {}
 
@@ -83,6 +98,7 @@ public class BlockTransformListener implements Listener {
   protected final PluginManager pm;
   protected final ListMultimap<Event, BlockTransformEvent> currentEvents =
       ArrayListMultimap.create();
+  protected final Map<Event, BlockTransformBatchEvent> currentBatches = new HashMap<>();
 
   public BlockTransformListener(Plugin plugin) {
     this.logger = ClassLogger.get(plugin.getLogger(), getClass());
@@ -97,51 +113,47 @@ public class BlockTransformListener implements Listener {
         .forEach(method -> {
           final Class<? extends Event> eventClass =
               method.getParameterTypes()[0].asSubclass(Event.class);
+          final WrapperInvoker invoker = createInvoker(method);
 
           for (final EventPriority priority : EventPriority.values()) {
-            EventExecutor executor = new EventExecutor() {
-              @Override
-              public void execute(Listener listener, Event event) throws EventException {
-                // REMOVED: Ignore the event if it was fron a non-Match world
-                // if (event instanceof Physical
-                //    && PGM.get().getMatchManager().getMatch(((Physical) event).getWorld())
-                // ==
-                // null)
-                //  return;
-
-                if (!Events.isCancelled(event)) {
-                  // At the first priority level, call the event handler method.
-                  // If it decides to generate a BlockTransformEvent, it will be stored in
-                  // currentEvents.
-                  if (priority == EventPriority.LOWEST) {
-                    if (eventClass.isInstance(event)) {
-                      try {
-                        method.invoke(listener, event);
-                      } catch (InvocationTargetException ex) {
-                        throw MISC_UTILS.createEventException(ex.getCause(), event);
-                      } catch (Throwable t) {
-                        throw MISC_UTILS.createEventException(t, event);
-                      }
-                    }
-                  }
+            EventExecutor executor = (listener, event) -> {
+              // At the first priority level, call the event handler method.
+              // If it decides to generate a BlockTransformEvent, it will be stored in
+              // currentEvents.
+              if (priority == EventPriority.LOWEST
+                  && !Events.isCancelled(event)
+                  && eventClass.isInstance(event)) {
+                try {
+                  invoker.invoke((BlockTransformListener) listener, event);
+                } catch (Throwable t) {
+                  throw MISC_UTILS.createEventException(t, event);
                 }
+              }
 
-                // Check for cached events and dispatch them at the current priority level
-                // only.
-                // The BTE needs to be dispatched even after it's cancelled, because we DO
-                // have
-                // listeners that depend on receiving cancelled events e.g. WoolMatchModule.
+              // Most events don't transform any block, so there is nothing else to do
+              if (!currentEvents.containsKey(event)) return;
+
+              // Check for cached events and dispatch them at the current priority level only.
+              // The BTE needs to be dispatched even after it's cancelled, because we DO have
+              // listeners that depend on receiving cancelled events e.g. WoolMatchModule.
+              BlockTransformBatchEvent batch = currentBatches.get(event);
+              if (batch != null) {
+                // Listeners that handled the batch don't need each of its events
+                Events.callEvent(batch, priority);
+                for (BlockTransformEvent bte : batch.getEvents()) {
+                  Events.callEvent(bte, priority, NOT_BATCHED);
+                }
+              } else {
                 for (BlockTransformEvent bte : currentEvents.get(event)) {
                   Events.callEvent(bte, priority);
                 }
+              }
 
-                // After dispatching the last priority level, clean up the cached events and
-                // do
-                // post-event stuff.
-                // This needs to happen even if the event is cancelled.
-                if (priority == EventPriority.MONITOR) {
-                  finishCauseEvent(event);
-                }
+              // After dispatching the last priority level, clean up the cached events and do
+              // post-event stuff.
+              // This needs to happen even if the event is cancelled.
+              if (priority == EventPriority.MONITOR) {
+                finishCauseEvent(event);
               }
             };
 
@@ -150,8 +162,43 @@ public class BlockTransformListener implements Listener {
         });
   }
 
+  @FunctionalInterface
+  interface WrapperInvoker {
+    void invoke(BlockTransformListener listener, Event event) throws Throwable;
+  }
+
+  /**
+   * Create a direct call to an {@link EventWrapper} method, so events don't go through {@link
+   * Method#invoke} and its checks.
+   */
+  private WrapperInvoker createInvoker(Method method) {
+    try {
+      MethodHandles.Lookup lookup = MethodHandles.lookup();
+      MethodHandle handle = lookup.unreflect(method);
+      return (WrapperInvoker) LambdaMetafactory.metafactory(
+              lookup,
+              "invoke",
+              MethodType.methodType(WrapperInvoker.class),
+              MethodType.methodType(void.class, BlockTransformListener.class, Event.class),
+              handle,
+              handle.type())
+          .getTarget()
+          .invokeExact();
+    } catch (Throwable t) {
+      logger.log(Level.WARNING, "Unable to generate an invoker for " + method, t);
+      return (listener, event) -> {
+        try {
+          method.invoke(listener, event);
+        } catch (InvocationTargetException e) {
+          throw e.getCause();
+        }
+      };
+    }
+  }
+
   private void finishCauseEvent(Event causeEvent) {
     List<BlockTransformEvent> wrapperEvents = currentEvents.removeAll(causeEvent);
+    currentBatches.remove(causeEvent);
 
     // A few of the event handlers need to do some post-processing after the wrapper event returns.
     if (causeEvent instanceof EntityExplodeEvent) {
@@ -387,16 +434,30 @@ public class BlockTransformListener implements Listener {
             .setPropagate(false);
       }
     }
+
+    // Large explosions are dispatched as a batch, so each priority is only called once
+    List<BlockTransformEvent> events = currentEvents.get(event);
+    if (!events.isEmpty()
+        && PGM.get().getConfiguration().getExperimentAsBool("batch-explosion-events", false)) {
+      currentBatches.put(
+          event,
+          new BlockTransformBatchEvent(
+              event, event.getEntity().getWorld(), Collections.unmodifiableList(events)));
+    }
   }
 
   private void finishEntityExplode(
       EntityExplodeEvent causeEvent, Collection<BlockTransformEvent> wrapperEvents) {
     // Remove blocks from the explosion if their wrapper event was cancelled
+    Set<Block> cancelled = new HashSet<>();
     for (BlockTransformEvent wrapper : wrapperEvents) {
       if (wrapper.isCancelled()) {
-        causeEvent.blockList().remove(wrapper.getOldState().getBlock());
+        cancelled.add(wrapper.getOldState().getBlock());
       }
     }
+    if (!cancelled.isEmpty()) {
+      causeEvent.blockList().removeIf(cancelled::contains);
+    }
   }
 
   @EventWrapper
@@ -119,6 +119,15 @@ public class PGMListener implements Listener {
     }
   }
 
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void preloadPlayerData(final AsyncPlayerPreLoginEvent event) {
+    if (event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED) return;
+
+    // Start loading ahead of the join, so the data is ready by the time it is needed
+    PGM.get().getDatastore().getUsername(event.getUniqueId());
+    PGM.get().getDatastore().getSettings(event.getUniqueId());
+  }
+
   @EventHandler
   public void onPlayerLogin(final PlayerLoginEvent event) {
     // allow premiums to join when the server is full
@@ -0,0 +1,123 @@
+package tc.oc.pgm.map;
+
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jetbrains.annotations.Nullable;
+import tc.oc.pgm.api.Config;
+import tc.oc.pgm.api.PGM;
+import tc.oc.pgm.api.map.MapContext;
+import tc.oc.pgm.api.map.MapSource;
+import tc.oc.pgm.api.map.exception.MapMissingException;
+import tc.oc.pgm.api.map.includes.MapInclude;
+import tc.oc.pgm.api.map.includes.MapIncludeProcessor;
+
+/**
+ * Remembers what each map was last loaded from, so that reloading every map can skip the ones
+ * whose document, includes and configuration haven't changed since.
+ *
+ * <p>Documents are compared by a digest of their content, so a file being touched (like by a git
+ * checkout) is not enough to parse it again. Includes are compared by modification time, which is
+ * also what decides when they are read again. Contexts are softly referenced like in {@link
+ * MapInfoImpl}, so a map is parsed again if its context was collected.
+ */
+class MapDocumentCache {
+
+  private final Map<MapSource, Entry> entries = new ConcurrentHashMap<>();
+
+  /**
+   * Get a digest of the current content of the map document.
+   *
+   * @param source the map source
+   * @return the digest of the document
+   * @throws MapMissingException if the document can't be read
+   */
+  static byte[] digest(MapSource source) throws MapMissingException {
+    try (DigestInputStream stream = new DigestInputStream(source.getDocument(), sha256())) {
+      final byte[] buffer = new byte[8192];
+      while (stream.read(buffer) != -1) {
+        // Reading is enough to update the digest
+      }
+      return stream.getMessageDigest().digest();
+    } catch (IOException e) {
+      throw new MapMissingException(source.getId(), "Unable to read map document", e);
+    }
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e); // Every Java platform must support SHA-256
+    }
+  }
+
+  /**
+   * Get the context the map was last loaded as, if nothing it was loaded from has changed.
+   *
+   * @param source the map source
+   * @param digest the current digest of the map document
+   * @param includes the include processor the map would be loaded with
+   * @return the previous context, or null if the map needs to be loaded
+   */
+  @Nullable
+  MapContext get(MapSource source, byte[] digest, MapIncludeProcessor includes) {
+    final Entry entry = entries.get(source);
+    if (entry == null || !entry.matches(digest, includes)) return null;
+    return entry.context.get();
+  }
+
+  /**
+   * Remember what the map was loaded from, after {@link MapSource#setIncludes} was called.
+   *
+   * @param source the map source
+   * @param digest the digest of the map document, taken before it was loaded
+   * @param includes the include processor the map was loaded with
+   * @param context the loaded context
+   */
+  void put(MapSource source, byte[] digest, MapIncludeProcessor includes, MapContext context) {
+    entries.put(source, new Entry(digest, includes, source, context));
+  }
+
+  void remove(MapSource source) {
+    entries.remove(source);
+  }
+
+  private static class Entry {
+    private final byte[] digest;
+    private final Config config;
+    private final @Nullable MapInclude global;
+    private final Map<MapInclude, Long> includes;
+    private final SoftReference<MapContext> context;
+
+    private Entry(
+        byte[] digest, MapIncludeProcessor processor, MapSource source, MapContext context) {
+      this.digest = digest;
+      this.config = PGM.get().getConfiguration();
+      this.global = processor.getGlobalInclude();
+      this.includes = new HashMap<>();
+      for (MapInclude include : source.getIncludes()) {
+        includes.put(include, include.getLastModified());
+      }
+      this.context = new SoftReference<>(context);
+    }
+
+    private boolean matches(byte[] digest, MapIncludeProcessor processor) {
+      // Modules may read the config when parsing, so a reloaded config invalidates everything
+      if (config != PGM.get().getConfiguration()) return false;
+      if (global != processor.getGlobalInclude()) return false;
+      if (!Arrays.equals(this.digest, digest)) return false;
+
+      for (Map.Entry<MapInclude, Long> include : includes.entrySet()) {
+        if (include.getKey().getLastModified() != include.getValue()) return false;
+      }
+      return true;
+    }
+  }
+}
@@ -1,5 +1,6 @@
 package tc.oc.pgm.map;
 
+import static tc.oc.pgm.api.map.MapSource.DEFAULT_VARIANT;
 import static tc.oc.pgm.util.Assert.assertNotNull;
 
 import java.io.IOException;
@@ -9,6 +10,7 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 import org.jdom2.Document;
 import org.jdom2.input.JDOMParseException;
+import org.jetbrains.annotations.Nullable;
 import tc.oc.pgm.api.Modules;
 import tc.oc.pgm.api.PGM;
 import tc.oc.pgm.api.map.MapContext;
@@ -46,6 +48,7 @@ public class MapFactoryImpl extends ModuleGraph<MapModule<?>, MapModuleFactory<?
   private final MapSource source;
   private final Map<String, VariantInfo> variants;
   private final MapIncludeProcessor includes;
+  private @Nullable MapFilePreprocessor.Base base;
   private Document document;
   private MapInfoImpl info;
   private RegionParser regions;
@@ -59,12 +62,37 @@ public class MapFactoryImpl extends ModuleGraph<MapModule<?>, MapModuleFactory<?
       MapSource source,
       Map<String, VariantInfo> variants,
       MapIncludeProcessor includes) {
+    this(logger, source, variants, includes, null);
+  }
+
+  /**
+   * Create a map factory that preprocesses a copy of an already parsed base document.
+   *
+   * @param base the base document parsed for another variant of the map, or null to parse it
+   */
+  public MapFactoryImpl(
+      Logger logger,
+      MapSource source,
+      Map<String, VariantInfo> variants,
+      MapIncludeProcessor includes,
+      @Nullable MapFilePreprocessor.Base base) {
     super(Modules.MAP, Modules.MAP_DEPENDENCY_ONLY); // Don't copy, avoid N factory copies
     this.logger =
         ClassLogger.get(assertNotNull(logger), getClass(), assertNotNull(source).getId());
     this.source = source;
     this.variants = variants;
     this.includes = includes;
+    this.base = base;
+  }
+
+  /**
+   * Get the base document, parsed once for this map, for its variants to reuse.
+   *
+   * @return the base document, or null if it was changed while loading the map
+   */
+  @Nullable
+  MapFilePreprocessor.Base getBase() {
+    return base;
   }
 
   @Override
@@ -79,7 +107,15 @@ public class MapFactoryImpl extends ModuleGraph<MapModule<?>, MapModuleFactory<?
   @Override
   public MapContext load() throws MapException {
     try {
-      document = MapFilePreprocessor.getDocument(source, includes);
+      // A base given by another variant is shared, and must be left unchanged
+      boolean copy = base != null;
+      if (base == null) {
+        base = MapFilePreprocessor.parse(source, includes);
+        // Keep the base intact only when variants are going to be loaded from it
+        copy = DEFAULT_VARIANT.equals(source.getVariantId()) && base.hasVariants();
+      }
+      document = MapFilePreprocessor.getDocument(source, includes, base, copy);
+      if (!copy) base = null;
 
       info = new MapInfoImpl(source, variants, document.getRootElement());
 
@@ -194,6 +230,7 @@ public class MapFactoryImpl extends ModuleGraph<MapModule<?>, MapModuleFactory<?
 
   @Override
   public void close() {
+    base = null;
     document = null;
     info = null;
     regions = null;
@@ -50,7 +50,23 @@ public class MapFilePreprocessor {
 
   public static Document getDocument(MapSource source, MapIncludeProcessor includes)
       throws MapMissingException, IOException, JDOMException, InvalidXMLException {
-    return new MapFilePreprocessor(source, includes).getDocument();
+    return new MapFilePreprocessor(source, includes).getDocument(parse(source, includes), false);
+  }
+
+  /**
+   * Preprocess the document of a variant from a parsed base document, applying only the
+   * conditionals and constants.
+   *
+   * @param source the source of the variant
+   * @param includes the include processor
+   * @param base the parsed base document
+   * @param copy whether to preprocess a copy, leaving the base unchanged for other variants
+   * @return the preprocessed document of the variant
+   */
+  static Document getDocument(
+      MapSource source, MapIncludeProcessor includes, Base base, boolean copy)
+      throws InvalidXMLException {
+    return new MapFilePreprocessor(source, includes).getDocument(base, copy);
   }
 
   private MapFilePreprocessor(MapSource source, MapIncludeProcessor includeProcessor) {
@@ -62,7 +78,15 @@ public class MapFilePreprocessor {
     this.variantIds = new HashSet<>();
   }
 
-  public Document getDocument()
+  /**
+   * Parse the document of a map, and resolve the includes that apply to every variant. Includes
+   * inside of conditionals are left in place, to be resolved once the variant is known.
+   *
+   * @param source the source of the map
+   * @param includeProcessor the include processor
+   * @return the parsed base document
+   */
+  static Base parse(MapSource source, MapIncludeProcessor includeProcessor)
       throws MapMissingException, IOException, JDOMException, InvalidXMLException {
     DocumentWrapper document;
     try (final InputStream stream = source.getDocument()) {
@@ -70,11 +94,13 @@ public class MapFilePreprocessor {
       document.setBaseURI(source.getId());
     }
 
+    Set<String> variantIds = new HashSet<>();
     variantIds.add(DEFAULT_VARIANT);
     for (Element variant : document.getRootElement().getChildren("variant")) {
       variantIds.add(XMLUtils.parseRequiredId(variant));
     }
 
+    List<MapInclude> includes = new ArrayList<>();
     document.runWithoutVisitation(() -> {
       MapInclude global = includeProcessor.getGlobalInclude();
       if (global != null) {
@@ -82,6 +108,44 @@ public class MapFilePreprocessor {
         includes.add(global);
       }
 
+      resolveIncludes(includeProcessor, document.getRootElement(), includes);
+    });
+
+    return new Base(document, List.copyOf(includes), Set.copyOf(variantIds));
+  }
+
+  private static void resolveIncludes(
+      MapIncludeProcessor includeProcessor, Element parent, List<MapInclude> includes)
+      throws InvalidXMLException {
+    for (int i = 0; i < parent.getContentSize(); i++) {
+      Content content = parent.getContent(i);
+      if (!(content instanceof Element child)) continue;
+
+      switch (child.getName()) {
+        case "include" -> {
+          MapInclude include = includeProcessor.getMapInclude(child);
+          parent.removeContent(i);
+          if (include != null) {
+            parent.addContent(i, include.getContent());
+            includes.add(include);
+          }
+          i--; // Process replacement content
+        }
+        // Conditionals depend on the variant, and constants hold no includes
+        case "if", "unless", "constant" -> {}
+        default -> resolveIncludes(includeProcessor, child, includes);
+      }
+    }
+  }
+
+  private Document getDocument(Base base, boolean copy) throws InvalidXMLException {
+    final DocumentWrapper document = copy ? base.document().copy() : base.document();
+    if (copy) document.setBaseURI(source.getId());
+
+    includes.addAll(base.includes());
+    variantIds.addAll(base.variantIds());
+
+    document.runWithoutVisitation(() -> {
       preprocessChildren(document.getRootElement());
       source.setIncludes(includes);
     });
@@ -207,4 +271,19 @@ public class MapFilePreprocessor {
     matcher.appendTail(result);
     return result.toString();
   }
+
+  /**
+   * A parsed map document with the includes shared by all of its variants resolved.
+   *
+   * @param document the parsed document
+   * @param includes the includes resolved in the document
+   * @param variantIds the ids of the variants declared by the document
+   */
+  record Base(DocumentWrapper document, List<MapInclude> includes, Set<String> variantIds) {
+
+    /** @return whether variants other than the default are declared */
+    boolean hasVariants() {
+      return variantIds.size() > 1;
+    }
+  }
 }
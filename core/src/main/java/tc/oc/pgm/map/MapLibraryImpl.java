@@ -26,7 +26,6 @@ import tc.oc.pgm.api.map.MapSource;
 import tc.oc.pgm.api.map.VariantInfo;
 import tc.oc.pgm.api.map.exception.MapException;
 import tc.oc.pgm.api.map.exception.MapMissingException;
-import tc.oc.pgm.api.map.factory.MapFactory;
 import tc.oc.pgm.api.map.factory.MapSourceFactory;
 import tc.oc.pgm.api.map.includes.MapIncludeProcessor;
 import tc.oc.pgm.util.LiquidMetal;
@@ -40,6 +39,7 @@ public class MapLibraryImpl implements MapLibrary {
   private final SortedMap<String, MapInfo> maps;
   private final Set<MapSource> failed;
   private final MapIncludeProcessor includes;
+  private final MapDocumentCache documents;
 
   public MapLibraryImpl(
       Logger logger, List<MapSourceFactory> factories, MapIncludeProcessor includes) {
@@ -48,6 +48,7 @@ public class MapLibraryImpl implements MapLibrary {
     this.maps = Collections.synchronizedSortedMap(new ConcurrentSkipListMap<>());
     this.failed = Collections.synchronizedSet(new HashSet<>());
     this.includes = includes;
+    this.documents = new MapDocumentCache();
   }
 
   @Override
@@ -163,8 +164,8 @@ public class MapLibraryImpl implements MapLibrary {
 
           // Finally load all the maps
           try (Stream<MapSource> stream =
-              mapSources.stream().flatMap(Function.identity()).parallel().unordered()) {
-            stream.forEach(s -> this.loadMapSafe(s, null, null));
+              mapSources.stream().flatMap(Function.identity()).distinct().parallel().unordered()) {
+            stream.forEach(s -> this.loadMapSafe(s, null, null, null));
           }
         })
         .thenRunAsync(() -> logMapSuccess(oldFail, oldOk))
@@ -192,31 +193,31 @@ public class MapLibraryImpl implements MapLibrary {
       }
 
       logger.info(ChatColor.GREEN + "XML changes detected, reloading");
-      return loadMapSafe(info.getSource(), null, info.getId());
+      return loadMapSafe(info.getSource(), null, info.getId(), null);
     });
   }
 
   private MapContext loadMap(
-      MapSource source, @Nullable Map<String, VariantInfo> variants, @Nullable String mapId)
+      MapSource source,
+      @Nullable Map<String, VariantInfo> variants,
+      @Nullable String mapId,
+      @Nullable MapFilePreprocessor.Base base)
       throws MapException {
-    final MapContext context;
-    try (final MapFactory factory = new MapFactoryImpl(logger, source, variants, includes)) {
-      context = factory.load();
+    MapContext context = null;
+    try {
+      final byte[] digest = MapDocumentCache.digest(source);
 
-      // We're not loading a specific map id, and we're not on a variant, load variants
-      if (variants == null && mapId == null && DEFAULT_VARIANT.equals(source.getVariantId())) {
-        var foundVariants = context.getInfo().getVariants();
-        for (String variantId : foundVariants.keySet()) {
-          if (!DEFAULT_VARIANT.equals(variantId))
-            loadMapSafe(source.asVariant(variantId), foundVariants, null);
-        }
-      }
+      // Unless reloading a specific map, skip maps that haven't changed since they were loaded
+      if (mapId == null) context = documents.get(source, digest, includes);
+      if (context == null) context = parseMap(source, variants, mapId, digest, base);
 
     } catch (MapMissingException e) {
+      documents.remove(source);
       failed.remove(source);
       if (mapId != null) maps.remove(mapId);
       throw e;
     } catch (MapException e) {
+      documents.remove(source);
       failed.add(source);
       throw e;
     } catch (Throwable t) {
@@ -238,10 +239,41 @@ public class MapLibraryImpl implements MapLibrary {
     return context;
   }
 
+  private MapContext parseMap(
+      MapSource source,
+      @Nullable Map<String, VariantInfo> variants,
+      @Nullable String mapId,
+      byte[] digest,
+      @Nullable MapFilePreprocessor.Base base)
+      throws Exception {
+    final MapContext context;
+    final MapFilePreprocessor.Base variantBase;
+    try (final MapFactoryImpl factory =
+        new MapFactoryImpl(logger, source, variants, includes, base)) {
+      context = factory.load();
+      // Variants are preprocessed from the same parsed document, instead of parsing it again
+      variantBase = factory.getBase();
+    }
+    documents.put(source, digest, includes, context);
+
+    // We're not loading a specific map id, and we're not on a variant, load variants
+    if (variants == null && mapId == null && DEFAULT_VARIANT.equals(source.getVariantId())) {
+      var foundVariants = context.getInfo().getVariants();
+      for (String variantId : foundVariants.keySet()) {
+        if (!DEFAULT_VARIANT.equals(variantId))
+          loadMapSafe(source.asVariant(variantId), foundVariants, null, variantBase);
+      }
+    }
+    return context;
+  }
+
   private @Nullable MapContext loadMapSafe(
-      MapSource source, @Nullable Map<String, VariantInfo> variants, @Nullable String mapId) {
+      MapSource source,
+      @Nullable Map<String, VariantInfo> variants,
+      @Nullable String mapId,
+      @Nullable MapFilePreprocessor.Base base) {
     try {
-      return loadMap(source, variants, mapId);
+      return loadMap(source, variants, mapId, base);
     } catch (MapException e) {
       logMapError(e);
     }
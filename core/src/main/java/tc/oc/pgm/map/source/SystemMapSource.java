@@ -10,10 +10,13 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Path;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
 import org.jetbrains.annotations.Nullable;
+import tc.oc.pgm.api.PGM;
 import tc.oc.pgm.api.map.MapSource;
 import tc.oc.pgm.api.map.exception.MapMissingException;
 import tc.oc.pgm.api.map.includes.MapInclude;
@@ -21,6 +24,10 @@ import tc.oc.pgm.util.FileUtils;
 
 class SystemMapSource implements MapSource {
 
+  // Files the server only ever replaces by renaming a new file over them, which are safe to share
+  // between the map and its worlds. Region and data files are written in place, so are copied.
+  private static final Predicate<File> LINKABLE = file -> file.getName().equals("level.dat");
+
   private final MapRoot root;
   private final Path dir;
 
@@ -81,7 +88,8 @@ class SystemMapSource implements MapSource {
   public void downloadTo(String worldDir, File dst) throws MapMissingException {
     final File src = getDirectory(worldDir);
     try {
-      FileUtils.copy(src, dst, true);
+      boolean link = PGM.get().getConfiguration().getExperimentAsBool("link-map-files", false);
+      FileUtils.copy(src, dst, true, link ? LINKABLE : file -> false);
     } catch (IOException e) {
       throw new MapMissingException(dir.toString(), "Unable to copy map folder", e);
     }
@@ -153,6 +161,11 @@ class SystemMapSource implements MapSource {
     this.storedIncludes.addAll(includes);
   }
 
+  @Override
+  public Collection<MapInclude> getIncludes() {
+    return Collections.unmodifiableSet(storedIncludes);
+  }
+
   @Override
   public MapRoot getRoot() {
     return root;
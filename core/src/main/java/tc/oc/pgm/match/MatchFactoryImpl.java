@@ -9,7 +9,10 @@ import com.google.common.collect.Range;
 import java.io.File;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Stack;
 import java.util.concurrent.Callable;
@@ -27,6 +30,7 @@ import org.bukkit.Difficulty;
 import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.entity.Player;
+import org.jetbrains.annotations.Nullable;
 import tc.oc.pgm.api.PGM;
 import tc.oc.pgm.api.map.MapContext;
 import tc.oc.pgm.api.map.WorldInfo;
@@ -47,15 +51,18 @@ public class MatchFactoryImpl implements MatchFactory, Callable<Match> {
   private static final World.Environment[] environments = World.Environment.values();
 
   private static final String DUMMY_TEAM = "dummy";
+  private static final String PREWARM = "Prewarm";
 
   private final Stack<Stage> stages;
   private final Future<Match> future;
   private final AtomicBoolean timedOut;
+  private final Map<String, Duration> stageDurations;
 
-  protected MatchFactoryImpl(String mapId) {
+  protected MatchFactoryImpl(String mapId, @Nullable WorldPrewarmer prewarmer) {
     this.stages = new Stack<>();
-    this.stages.push(new InitMapStage(assertNotNull(mapId)));
+    this.stages.push(new InitMapStage(assertNotNull(mapId), prewarmer));
     this.timedOut = new AtomicBoolean(false);
+    this.stageDurations = Collections.synchronizedMap(new LinkedHashMap<>());
     this.future = Executors.newSingleThreadExecutor().submit(this);
   }
 
@@ -76,8 +83,10 @@ public class MatchFactoryImpl implements MatchFactory, Callable<Match> {
     Stage stage;
     Future<? extends Stage> next;
 
+    final long start = System.nanoTime();
     while (!stages.empty()) {
       stage = stages.peek();
+      final long stageStart = System.nanoTime();
       next = stage.advance();
 
       // Only wait if the next stage is not done, or
@@ -98,12 +107,15 @@ public class MatchFactoryImpl implements MatchFactory, Callable<Match> {
       } catch (ExecutionException | InterruptedException e) {
         return revert(e);
       }
+      recordStage(stage, System.nanoTime() - stageStart);
 
       // If there is no other stage, commit the match.
       if (done == null) {
         stages.clear();
         if (stage instanceof Commitable) {
-          return ((Commitable) stage).commit();
+          final Match match = ((Commitable) stage).commit();
+          logStages(match, System.nanoTime() - start);
+          return match;
         }
         return revert(new IllegalStateException("Unable to load match with an incomplete stage"));
       } else {
@@ -114,6 +126,31 @@ public class MatchFactoryImpl implements MatchFactory, Callable<Match> {
     return revert(new IllegalStateException("Unable to load match without an initial stage"));
   }
 
+  private void recordStage(Stage stage, long nanos) {
+    // Stages may run more than once, such as moving players in batches
+    stageDurations.merge(stage.getClass().getSimpleName(), Duration.ofNanos(nanos), Duration::plus);
+
+    if (stage instanceof DownloadMapStage) {
+      final Duration prewarm = ((DownloadMapStage) stage).prewarmed;
+      if (prewarm != null) stageDurations.put(PREWARM, prewarm);
+    }
+  }
+
+  private void logStages(Match match, long nanos) {
+    final StringBuilder summary = new StringBuilder();
+    synchronized (stageDurations) {
+      for (Map.Entry<String, Duration> entry : stageDurations.entrySet()) {
+        if (summary.length() > 0) summary.append(", ");
+        summary.append(entry.getKey()).append(' ').append(entry.getValue().toMillis()).append("ms");
+      }
+    }
+
+    PGM.get()
+        .getLogger()
+        .info("Match-" + match.getId() + " (" + match.getMap().getId() + ") ready in "
+            + TimeUnit.NANOSECONDS.toMillis(nanos) + "ms (" + summary + ")");
+  }
+
   private Match revert(Exception err) {
     while (!stages.empty()) {
       final Stage stage = stages.pop();
@@ -158,6 +195,13 @@ public class MatchFactoryImpl implements MatchFactory, Callable<Match> {
     timedOut.set(true); // Will disable all delays from any stage
   }
 
+  @Override
+  public Map<String, Duration> getStageDurations() {
+    synchronized (stageDurations) {
+      return Collections.unmodifiableMap(new LinkedHashMap<>(stageDurations));
+    }
+  }
+
   /** An execution stage for creating a {@link Match}. */
   private interface Stage {
 
@@ -200,24 +244,33 @@ public class MatchFactoryImpl implements MatchFactory, Callable<Match> {
   /** Stage #1: ensures that a {@link MapContext} is loaded. */
   private static class InitMapStage implements Stage {
     private final String mapId;
+    private final @Nullable WorldPrewarmer prewarmer;
 
-    private InitMapStage(String mapId) {
+    private InitMapStage(String mapId, @Nullable WorldPrewarmer prewarmer) {
       this.mapId = assertNotNull(mapId);
+      this.prewarmer = prewarmer;
     }
 
     @Override
     public Future<DownloadMapStage> advance() {
-      return PGM.get().getMapLibrary().loadExistingMap(mapId).thenApply(DownloadMapStage::new);
+      return PGM.get()
+          .getMapLibrary()
+          .loadExistingMap(mapId)
+          .thenApply(map -> new DownloadMapStage(map, prewarmer));
     }
   }
 
   /** Stage #2: downloads a {@link MapContext} to a local directory. */
   private static class DownloadMapStage implements Stage, Revertable {
     private final MapContext map;
+    private final @Nullable WorldPrewarmer prewarmer;
     private File dir;
+    // Time spent downloading the world ahead of time, if it was
+    private volatile Duration prewarmed;
 
-    private DownloadMapStage(MapContext map) {
+    private DownloadMapStage(MapContext map, @Nullable WorldPrewarmer prewarmer) {
       this.map = assertNotNull(map);
+      this.prewarmer = prewarmer;
     }
 
     private File getDirectory() {
@@ -233,13 +286,18 @@ public class MatchFactoryImpl implements MatchFactory, Callable<Match> {
       FileUtils.delete(getDirectory()); // Always ensure the directory is empty first
 
       final File dir = getDirectory();
+      if (prewarmer != null) {
+        prewarmed = prewarmer.claim(map.getInfo(), dir);
+        if (prewarmed != null) return new InitWorldStage(map, dir.getName(), true);
+      }
+
       if (dir.mkdirs()) {
         map.getInfo().getSource().downloadTo(map.getInfo().getWorldFolder(), dir);
       } else {
         throw new MapMissingException(dir.getPath(), "Unable to mkdirs world directory");
       }
 
-      return new InitWorldStage(map, dir.getName());
+      return new InitWorldStage(map, dir.getName(), false);
     }
 
     @Override
@@ -258,10 +316,12 @@ public class MatchFactoryImpl implements MatchFactory, Callable<Match> {
   private static class InitWorldStage implements Stage, Revertable {
     private final MapContext map;
     private final String worldName;
+    private final boolean prewarmed;
 
-    private InitWorldStage(MapContext map, String worldName) {
+    private InitWorldStage(MapContext map, String worldName, boolean prewarmed) {
       this.map = assertNotNull(map);
       this.worldName = assertNotNull(worldName);
+      this.prewarmed = prewarmed;
     }
 
     private Stage advanceSync() throws IllegalStateException {
@@ -295,7 +355,9 @@ public class MatchFactoryImpl implements MatchFactory, Callable<Match> {
 
     @Override
     public Duration delay(boolean timedOut) {
-      return timedOut ? Duration.ZERO : Duration.ofSeconds(3);
+      // A prewarmed world was already copied during the previous match, so this is the only step
+      if (timedOut) return Duration.ZERO;
+      return prewarmed ? Duration.ofMillis(100) : Duration.ofSeconds(3);
     }
   }
 
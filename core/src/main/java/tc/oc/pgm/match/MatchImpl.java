@@ -6,6 +6,7 @@ import static tc.oc.pgm.util.nms.NMSHacks.NMS_HACKS;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Iterables;
 import java.io.File;
 import java.lang.ref.WeakReference;
 import java.time.Duration;
@@ -28,11 +29,20 @@ import org.bukkit.event.Event;
 import org.bukkit.event.EventException;
 import org.bukkit.event.HandlerList;
 import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockEvent;
+import org.bukkit.event.entity.EntityEvent;
+import org.bukkit.event.entity.EntityTeleportEvent;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+import org.bukkit.event.world.WorldEvent;
 import org.bukkit.plugin.RegisteredListener;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import tc.oc.pgm.api.Modules;
 import tc.oc.pgm.api.PGM;
+import tc.oc.pgm.api.event.BlockTransformBatchEvent;
+import tc.oc.pgm.api.event.BlockTransformEvent;
 import tc.oc.pgm.api.feature.Feature;
 import tc.oc.pgm.api.filter.query.MatchQuery;
 import tc.oc.pgm.api.map.MapContext;
@@ -82,10 +92,12 @@ import tc.oc.pgm.teams.Team;
 import tc.oc.pgm.util.Audience;
 import tc.oc.pgm.util.ClassLogger;
 import tc.oc.pgm.util.FileUtils;
+import tc.oc.pgm.util.GroupedAudience;
 import tc.oc.pgm.util.TimeUtils;
 import tc.oc.pgm.util.bukkit.Events;
 import tc.oc.pgm.util.collection.RankedSet;
 import tc.oc.pgm.util.concurrent.BukkitExecutorService;
+import tc.oc.pgm.util.event.GeneralizedEvent;
 
 public class MatchImpl implements Match {
 
@@ -316,9 +328,8 @@ public class MatchImpl implements Match {
 
   @Override
   public @NotNull Audience audience() {
-    final Collection<Audience> audiences = new ArrayList<>(getPlayers());
-    audiences.add(Audience.console());
-    return Audience.get(audiences);
+    return new GroupedAudience(
+        Iterables.transform(getPlayers(), MatchPlayer::getBukkit), Audience.console());
   }
 
   private class EventExecutor implements org.bukkit.plugin.EventExecutor {
@@ -336,7 +347,58 @@ public class MatchImpl implements Match {
     }
   }
 
+  private class WorldEventExecutor implements org.bukkit.plugin.EventExecutor {
+    private final RegisteredListener listener;
+
+    private WorldEventExecutor(RegisteredListener listener) {
+      this.listener = assertNotNull(listener);
+    }
+
+    @Override
+    public void execute(Listener other, Event event) throws EventException {
+      if (isOwnEvent(event)) {
+        listener.callEvent(event);
+      }
+    }
+  }
+
+  private static boolean isWorldEvent(Class<? extends Event> eventClass) {
+    return BlockEvent.class.isAssignableFrom(eventClass)
+        || EntityEvent.class.isAssignableFrom(eventClass)
+        || PlayerEvent.class.isAssignableFrom(eventClass)
+        || WorldEvent.class.isAssignableFrom(eventClass)
+        || BlockTransformEvent.class.isAssignableFrom(eventClass)
+        || BlockTransformBatchEvent.class.isAssignableFrom(eventClass);
+  }
+
+  /**
+   * Get whether an event could concern this match. Only events that happened in the world of
+   * another match are excluded, anything else is still up to the listener.
+   */
+  private boolean isOwnEvent(Event event) {
+    // Moving between worlds concerns both matches, and async events can't look up worlds safely
+    if (event.isAsynchronous()
+        || event instanceof PlayerTeleportEvent
+        || event instanceof PlayerChangedWorldEvent
+        || event instanceof EntityTeleportEvent) return true;
+
+    final World world;
+    if (event instanceof BlockTransformEvent) {
+      world = ((BlockTransformEvent) event).getWorld();
+    } else if (event instanceof BlockTransformBatchEvent) {
+      world = ((BlockTransformBatchEvent) event).getWorld();
+    } else {
+      world = GeneralizedEvent.getWorldIfPresent(event);
+    }
+
+    if (world == null || world == getWorld()) return true;
+    final Match match = PGM.get().getMatchManager().getMatch(world);
+    return match == null || match == this;
+  }
+
   private void startListener(Listener listener) {
+    final boolean routeWorldEvents =
+        PGM.get().getConfiguration().getExperimentAsBool("route-world-events", false);
     for (Map.Entry<Class<? extends Event>, Set<RegisteredListener>> entry : PGM.get()
         .getPluginLoader()
         .createRegisteredListeners(listener, PGM.get())
@@ -344,7 +406,6 @@ public class MatchImpl implements Match {
       Class<? extends Event> eventClass = entry.getKey();
       HandlerList handlerList = Events.getEventListeners(eventClass);
 
-      // TODO: expand support to other events, such as player, world, entity -- reduce boilerplate
       if (MatchEvent.class.isAssignableFrom(eventClass)) {
         for (final RegisteredListener registeredListener : entry.getValue()) {
           PGM.get()
@@ -357,6 +418,19 @@ public class MatchImpl implements Match {
                   new EventExecutor(registeredListener),
                   PGM.get());
         }
+      } else if (routeWorldEvents && isWorldEvent(eventClass)) {
+        // While matches overlap during a cycle, skip the events of the other match's world
+        for (final RegisteredListener registeredListener : entry.getValue()) {
+          PGM.get()
+              .getServer()
+              .getPluginManager()
+              .registerEvent(
+                  eventClass,
+                  listener,
+                  registeredListener.getPriority(),
+                  new WorldEventExecutor(registeredListener),
+                  PGM.get());
+        }
       } else {
         handlerList.registerAll(entry.getValue());
       }
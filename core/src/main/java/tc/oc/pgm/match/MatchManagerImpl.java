@@ -21,9 +21,12 @@ import org.bukkit.event.Listener;
 import org.jetbrains.annotations.Nullable;
 import tc.oc.pgm.api.Config;
 import tc.oc.pgm.api.PGM;
+import tc.oc.pgm.api.map.MapInfo;
 import tc.oc.pgm.api.match.Match;
 import tc.oc.pgm.api.match.MatchManager;
+import tc.oc.pgm.api.match.event.MatchFinishEvent;
 import tc.oc.pgm.api.match.event.MatchLoadEvent;
+import tc.oc.pgm.api.match.event.MatchStartEvent;
 import tc.oc.pgm.api.match.event.MatchUnloadEvent;
 import tc.oc.pgm.api.match.factory.MatchFactory;
 import tc.oc.pgm.api.player.MatchPlayer;
@@ -46,6 +49,9 @@ public class MatchManagerImpl implements MatchManager, Listener {
   // If not specified, defaults to 1/2 of the start time.
   private final long destroyDelaySecs;
 
+  // If not null, the likely next map is copied ahead of time while a match is running
+  private final @Nullable WorldPrewarmer prewarmer;
+
   public MatchManagerImpl(Logger logger) {
     this.logger = ClassLogger.get(assertNotNull(logger), getClass());
     this.matchById = Collections.synchronizedMap(new LinkedHashMap<>());
@@ -63,6 +69,10 @@ public class MatchManagerImpl implements MatchManager, Listener {
       // No-op, since this is experimental
     }
     this.destroyDelaySecs = delaySecs;
+
+    this.prewarmer = config.getExperimentAsBool("prewarm-next-map", false)
+        ? new WorldPrewarmer(this.logger)
+        : null;
   }
 
   @EventHandler(priority = EventPriority.LOWEST)
@@ -81,6 +91,24 @@ public class MatchManagerImpl implements MatchManager, Listener {
     }
   }
 
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onMatchStart(MatchStartEvent event) {
+    prewarmNextMap();
+  }
+
+  // The next map is often only decided when the match ends, such as with votes
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onMatchFinish(MatchFinishEvent event) {
+    prewarmNextMap();
+  }
+
+  private void prewarmNextMap() {
+    if (prewarmer == null) return;
+
+    final MapInfo next = PGM.get().getMapOrder().getNextMap();
+    if (next != null) prewarmer.prewarm(next);
+  }
+
   @EventHandler
   public void onMatchUnload(MatchUnloadEvent event) {
     final Match match = event.getMatch();
@@ -116,7 +144,7 @@ public class MatchManagerImpl implements MatchManager, Listener {
   public MatchFactory createMatch(@Nullable String mapId) {
     // FIXME: "infinite" retry if a Match fails to load
     if (mapId == null) mapId = PGM.get().getMapOrder().popNextMap().getId();
-    return new MatchFactoryImpl(mapId);
+    return new MatchFactoryImpl(mapId, prewarmer);
   }
 
   @Override
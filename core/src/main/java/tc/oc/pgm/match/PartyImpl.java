@@ -3,6 +3,7 @@ package tc.oc.pgm.match;
 import static net.kyori.adventure.text.Component.text;
 import static tc.oc.pgm.util.Assert.assertNotNull;
 
+import com.google.common.collect.Iterables;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -21,6 +22,7 @@ import tc.oc.pgm.api.party.event.PartyRenameEvent;
 import tc.oc.pgm.api.player.MatchPlayer;
 import tc.oc.pgm.filters.query.PartyQuery;
 import tc.oc.pgm.util.Audience;
+import tc.oc.pgm.util.GroupedAudience;
 import tc.oc.pgm.util.bukkit.BukkitUtils;
 import tc.oc.pgm.util.named.NameStyle;
 import tc.oc.pgm.util.text.TextFormatter;
@@ -51,7 +53,8 @@ public abstract class PartyImpl implements Party, Audience {
     this.query = new PartyQuery(null, this);
     this.memberMap = new HashMap<>();
     this.memberList = Collections.unmodifiableCollection(this.memberMap.values());
-    this.audience = Audience.get(this.memberMap.values());
+    this.audience = new GroupedAudience(
+        Iterables.transform(this.memberList, MatchPlayer::getBukkit), Audience.empty());
     this.id = assertNotNull(name);
     this.chatColor = chatColor == null ? ChatColor.WHITE : chatColor;
     this.color = BukkitUtils.colorOf(this.chatColor);
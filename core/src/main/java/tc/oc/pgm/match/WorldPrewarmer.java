@@ -0,0 +1,148 @@
+package tc.oc.pgm.match;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.jetbrains.annotations.Nullable;
+import tc.oc.pgm.api.PGM;
+import tc.oc.pgm.api.map.MapInfo;
+import tc.oc.pgm.api.map.exception.MapMissingException;
+import tc.oc.pgm.util.ClassLogger;
+import tc.oc.pgm.util.FileUtils;
+
+/**
+ * Speculatively downloads the likely next map into a world directory while the current match is
+ * running, so that creating its match only needs to move the directory into place.
+ *
+ * <p>Only one map is kept ready at a time. Asking for a different map discards the previous one.
+ */
+class WorldPrewarmer {
+  private static final String PREFIX = "match-prewarm-";
+
+  private final Logger logger;
+  private final File container;
+  // Downloads and deletions run here, never on the main thread
+  private final Executor executor;
+  private final AtomicInteger counter = new AtomicInteger();
+
+  private @Nullable Prewarm current;
+
+  WorldPrewarmer(Logger logger) {
+    this.logger = ClassLogger.get(logger, getClass());
+    // Leftovers from a previous run are cleaned up with the other match folders on startup
+    this.container = PGM.get().getServer().getWorldContainer().getAbsoluteFile();
+    this.executor = PGM.get().getAsyncExecutor();
+  }
+
+  /**
+   * Start downloading the map, unless it is already downloaded or in progress.
+   *
+   * @param map the map that is likely to be played next
+   */
+  synchronized void prewarm(MapInfo map) {
+    if (current != null) {
+      if (current.matches(map)) return;
+      discard(current);
+    }
+
+    final File dir = new File(container, PREFIX + counter.getAndIncrement());
+    final Prewarm prewarm = new Prewarm(map, dir);
+    prewarm.future = PGM.get()
+        .getMapLibrary()
+        .loadExistingMap(map.getId())
+        .thenAcceptAsync(context -> prewarm.download(context.getInfo()), executor);
+    current = prewarm;
+  }
+
+  /**
+   * Take the downloaded directory of the map, waiting for it if the download is in progress.
+   *
+   * @param map the map about to be played
+   * @param dir the directory to move the downloaded world to, which must not exist
+   * @return how long the world took to download, or null if the map was not downloaded
+   */
+  @Nullable
+  Duration claim(MapInfo map, File dir) {
+    final Prewarm prewarm;
+    synchronized (this) {
+      prewarm = current;
+      current = null;
+    }
+    if (prewarm == null) return null;
+
+    if (!prewarm.matches(map)) {
+      discard(prewarm);
+      return null;
+    }
+
+    try {
+      prewarm.future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      discard(prewarm);
+      return null;
+    } catch (ExecutionException e) {
+      logger.log(Level.WARNING, "Unable to prewarm " + map.getId(), e.getCause());
+      discard(prewarm);
+      return null;
+    }
+
+    // Both directories are in the world container, so this is just a rename
+    if (!prewarm.dir.renameTo(dir)) {
+      discard(prewarm);
+      return null;
+    }
+    return prewarm.elapsed;
+  }
+
+  private void discard(Prewarm prewarm) {
+    prewarm.future.whenCompleteAsync((v, err) -> FileUtils.delete(prewarm.dir), executor);
+  }
+
+  private static class Prewarm {
+    private final String mapId;
+    private final String version;
+    private final String worldFolder;
+    private final File dir;
+
+    private CompletableFuture<Void> future;
+    private Duration elapsed;
+
+    private Prewarm(MapInfo map, File dir) {
+      this.mapId = map.getId();
+      this.version = map.getVersion().toString();
+      this.worldFolder = map.getWorldFolder();
+      this.dir = dir;
+    }
+
+    private boolean matches(MapInfo map) {
+      return mapId.equals(map.getId())
+          && version.equals(map.getVersion().toString())
+          && Objects.equals(worldFolder, map.getWorldFolder());
+    }
+
+    private void download(MapInfo map) {
+      final long start = System.nanoTime();
+
+      FileUtils.delete(dir);
+      if (!dir.mkdirs()) {
+        throw new RuntimeException(
+            new MapMissingException(dir.getPath(), "Unable to mkdirs world directory"));
+      }
+
+      try {
+        map.getSource().downloadTo(map.getWorldFolder(), dir);
+      } catch (MapMissingException e) {
+        throw new RuntimeException(e);
+      }
+
+      elapsed = Duration.ofNanos(System.nanoTime() - start);
+    }
+  }
+}
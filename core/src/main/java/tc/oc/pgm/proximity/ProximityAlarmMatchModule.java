@@ -7,6 +7,7 @@ import org.bukkit.scheduler.BukkitTask;
 import tc.oc.pgm.api.match.Match;
 import tc.oc.pgm.api.match.MatchModule;
 import tc.oc.pgm.api.match.MatchScope;
+import tc.oc.pgm.controlpoint.RegionPlayerTrackerMatchModule;
 
 public class ProximityAlarmMatchModule implements MatchModule {
   private final Match match;
@@ -23,7 +24,7 @@ public class ProximityAlarmMatchModule implements MatchModule {
   @Override
   public void enable() {
     for (ProximityAlarm proximityAlarm : this.proximityAlarms) {
-      this.match.addListener(proximityAlarm.playerTracker, MatchScope.RUNNING);
+      this.match.needModule(RegionPlayerTrackerMatchModule.class).add(proximityAlarm.playerTracker);
     }
 
     match
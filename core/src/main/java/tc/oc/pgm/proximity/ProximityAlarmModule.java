@@ -13,6 +13,8 @@ import tc.oc.pgm.api.map.MapModule;
 import tc.oc.pgm.api.map.factory.MapFactory;
 import tc.oc.pgm.api.map.factory.MapModuleFactory;
 import tc.oc.pgm.api.match.Match;
+import tc.oc.pgm.api.match.MatchModule;
+import tc.oc.pgm.controlpoint.RegionPlayerTrackerMatchModule;
 import tc.oc.pgm.filters.FilterModule;
 import tc.oc.pgm.filters.operator.InverseFilter;
 import tc.oc.pgm.filters.parse.FilterParser;
@@ -28,6 +30,11 @@ public class ProximityAlarmModule implements MapModule<ProximityAlarmMatchModule
     this.definitions = definitions;
   }
 
+  @Override
+  public Collection<Class<? extends MatchModule>> getHardDependencies() {
+    return ImmutableList.of(RegionPlayerTrackerMatchModule.class);
+  }
+
   @Override
   public ProximityAlarmMatchModule createMatchModule(Match match) {
     return new ProximityAlarmMatchModule(match, this.definitions);
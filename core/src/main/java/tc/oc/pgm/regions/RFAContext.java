@@ -5,11 +5,16 @@ import com.google.common.collect.ImmutableListMultimap;
 import com.google.common.collect.Multimap;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import org.bukkit.util.Vector;
 
 public class RFAContext {
   private final Multimap<RFAScope, RegionFilterApplication> rfas;
   private final List<RegionFilterApplication> byPriority;
+  private final RegionIndex<RegionFilterApplication> index;
+  private final Map<RFAScope, RegionIndex<RegionFilterApplication>> indexByScope;
 
   public RFAContext(Iterable<RegionFilterApplication> byPriority) {
     this.byPriority = ImmutableList.copyOf(byPriority);
@@ -19,6 +24,12 @@ public class RFAContext {
       rfaBuilder.put(rfa.scope, rfa);
     }
     this.rfas = rfaBuilder.build();
+
+    this.index = new RegionIndex<>(this.byPriority, rfa -> rfa.region);
+    this.indexByScope = new EnumMap<>(RFAScope.class);
+    for (RFAScope scope : RFAScope.values()) {
+      this.indexByScope.put(scope, new RegionIndex<>(this.rfas.get(scope), rfa -> rfa.region));
+    }
   }
 
   /** Return all RFAs in the given scope, in priority order */
@@ -31,6 +42,31 @@ public class RFAContext {
     return this.byPriority;
   }
 
+  /**
+   * Return the RFAs in the given scope whose region may contain the given point, in priority order
+   */
+  public Iterable<RegionFilterApplication> get(RFAScope scope, Vector point) {
+    return this.indexByScope.get(scope).get(point);
+  }
+
+  /**
+   * Return the RFAs in the given scope whose region may contain either of the given points, in
+   * priority order
+   */
+  public Iterable<RegionFilterApplication> get(RFAScope scope, Vector a, Vector b) {
+    return this.indexByScope.get(scope).get(a, b);
+  }
+
+  /** Return all RFAs whose region may contain the given point, in priority order */
+  public Iterable<RegionFilterApplication> getAll(Vector point) {
+    return this.index.get(point);
+  }
+
+  /** Return all RFAs whose region may contain either of the given points, in priority order */
+  public Iterable<RegionFilterApplication> getAll(Vector a, Vector b) {
+    return this.index.get(a, b);
+  }
+
   public static class Builder extends RFAContext {
     private final List<RegionFilterApplication> byPriority = new ArrayList<>();
 
@@ -59,6 +95,26 @@ public class RFAContext {
       throw new UnsupportedOperationException("Cannot call getAll without building first!");
     }
 
+    @Override
+    public Iterable<RegionFilterApplication> get(RFAScope scope, Vector point) {
+      throw new UnsupportedOperationException("Cannot call get without building first!");
+    }
+
+    @Override
+    public Iterable<RegionFilterApplication> get(RFAScope scope, Vector a, Vector b) {
+      throw new UnsupportedOperationException("Cannot call get without building first!");
+    }
+
+    @Override
+    public Iterable<RegionFilterApplication> getAll(Vector point) {
+      throw new UnsupportedOperationException("Cannot call getAll without building first!");
+    }
+
+    @Override
+    public Iterable<RegionFilterApplication> getAll(Vector a, Vector b) {
+      throw new UnsupportedOperationException("Cannot call getAll without building first!");
+    }
+
     public RFAContext build() {
       return new RFAContext(byPriority);
     }
@@ -0,0 +1,122 @@
+package tc.oc.pgm.regions;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import org.bukkit.util.Vector;
+import org.jetbrains.annotations.Nullable;
+import tc.oc.pgm.api.region.Region;
+
+/**
+ * A static spatial index of items that each have a {@link Region}, bucketed by chunk column using
+ * {@link Region#getBounds()}.
+ *
+ * <p>Lookups return every item whose region may contain the given point, in the same order the
+ * items were given, so callers relying on priority order can iterate the result directly. Items
+ * with unbounded (or very large) bounds, or regions without bounds such as negative regions, are
+ * included in every lookup, items with empty bounds are never returned.
+ */
+public class RegionIndex<T> {
+  // Regions spanning more chunks than this are treated as unbounded, to keep memory in check
+  private static final int MAX_INDEXED_CHUNKS = 4096;
+
+  private final List<T> all;
+  private final List<T> unbounded;
+  private final Long2ObjectMap<List<T>> buckets;
+
+  public RegionIndex(Iterable<? extends T> items, Function<? super T, ? extends Region> regions) {
+    List<T> all = new ArrayList<>();
+    List<T> unbounded = new ArrayList<>();
+    Long2ObjectMap<List<T>> buckets = new Long2ObjectOpenHashMap<>();
+
+    for (T item : items) {
+      all.add(item);
+
+      Bounds bounds = getBounds(regions.apply(item));
+      if (bounds != null && bounds.isEmpty()) continue;
+
+      if (bounds == null || !bounds.isBlockFinite()) {
+        addUnbounded(item, unbounded, buckets);
+        continue;
+      }
+
+      Vector min = bounds.getMin(), max = bounds.getMax();
+      int minX = min.getBlockX() >> 4, maxX = max.getBlockX() >> 4;
+      int minZ = min.getBlockZ() >> 4, maxZ = max.getBlockZ() >> 4;
+      if ((long) (maxX - minX + 1) * (maxZ - minZ + 1) > MAX_INDEXED_CHUNKS) {
+        addUnbounded(item, unbounded, buckets);
+        continue;
+      }
+
+      for (int x = minX; x <= maxX; x++) {
+        for (int z = minZ; z <= maxZ; z++) {
+          List<T> bucket = buckets.get(key(x, z));
+          if (bucket == null) {
+            // New buckets start with every unbounded item seen so far, to preserve ordering
+            buckets.put(key(x, z), bucket = new ArrayList<>(unbounded));
+          }
+          bucket.add(item);
+        }
+      }
+    }
+
+    this.all = Collections.unmodifiableList(all);
+    this.unbounded = Collections.unmodifiableList(unbounded);
+    this.buckets = buckets;
+    for (Long2ObjectMap.Entry<List<T>> entry : buckets.long2ObjectEntrySet()) {
+      entry.setValue(Collections.unmodifiableList(entry.getValue()));
+    }
+  }
+
+  /** Get the bounds of a region, or null if it has none, like negative regions. */
+  private static @Nullable Bounds getBounds(Region region) {
+    if (!region.isBlockBounded()) return null;
+    try {
+      return region.getBounds();
+    } catch (UnsupportedOperationException e) {
+      // Intersections with a negative region are block bounded, but can't compute their bounds
+      return null;
+    }
+  }
+
+  private static <T> void addUnbounded(T item, List<T> unbounded, Long2ObjectMap<List<T>> buckets) {
+    unbounded.add(item);
+    for (List<T> bucket : buckets.values()) {
+      bucket.add(item);
+    }
+  }
+
+  private static long key(int chunkX, int chunkZ) {
+    return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+  }
+
+  /** Return all items, in order */
+  public List<T> getAll() {
+    return all;
+  }
+
+  /** Return the items whose region may contain the given block coordinates, in order */
+  public List<T> get(int blockX, int blockZ) {
+    List<T> bucket = buckets.get(key(blockX >> 4, blockZ >> 4));
+    return bucket != null ? bucket : unbounded;
+  }
+
+  /** Return the items whose region may contain the given point, in order */
+  public List<T> get(Vector point) {
+    return get(point.getBlockX(), point.getBlockZ());
+  }
+
+  /**
+   * Return the items whose region may contain either of the given points, in order. This may
+   * return more items than strictly needed when the points are in different chunks.
+   */
+  public List<T> get(Vector a, Vector b) {
+    if (a.getBlockX() >> 4 == b.getBlockX() >> 4 && a.getBlockZ() >> 4 == b.getBlockZ() >> 4) {
+      return get(a);
+    }
+    return all;
+  }
+}
@@ -15,7 +15,6 @@ import org.bukkit.event.Cancellable;
 import org.bukkit.event.Event;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
-import org.bukkit.event.Listener;
 import org.bukkit.event.block.Action;
 import org.bukkit.event.block.BlockDamageEvent;
 import org.bukkit.event.block.BlockPhysicsEvent;
@@ -29,6 +28,8 @@ import org.bukkit.event.player.PlayerInteractEntityEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.util.Vector;
 import org.jetbrains.annotations.Nullable;
+import tc.oc.pgm.api.event.BlockTransformBatchEvent;
+import tc.oc.pgm.api.event.BlockTransformBatchEvent.BatchListener;
 import tc.oc.pgm.api.event.BlockTransformEvent;
 import tc.oc.pgm.api.filter.Filter.QueryResponse;
 import tc.oc.pgm.api.filter.query.BlockQuery;
@@ -52,7 +53,7 @@ import tc.oc.pgm.util.event.PlayerCoarseMoveEvent;
 import tc.oc.pgm.util.material.MaterialData;
 
 @ListenerScope(MatchScope.LOADED)
-public class RegionMatchModule implements MatchModule, Listener {
+public class RegionMatchModule implements MatchModule, BatchListener {
 
   private final Match match;
   private final RFAContext rfaContext;
@@ -82,10 +83,18 @@ public class RegionMatchModule implements MatchModule, Listener {
     tc.oc.pgm.filters.query.PlayerQuery query =
         new tc.oc.pgm.filters.query.PlayerQuery(event, player);
 
+    Vector toPos = to.toVector();
+    Vector fromPos = from == null ? null : from.toVector();
+
     if (useRegionPriority) {
+      // Without a from location, leave applies to any region not containing the destination
+      Iterable<RegionFilterApplication> rfas = fromPos == null
+          ? this.rfaContext.getAll()
+          : this.rfaContext.getAll(fromPos, toPos);
+
       // We need to handle both scopes in the same loop, because the priority order can interleave
       // them
-      for (RegionFilterApplication rfa : this.rfaContext.getAll()) {
+      for (RegionFilterApplication rfa : rfas) {
         if ((rfa.scope == RFAScope.PLAYER_ENTER
                 && (from == null || !rfa.region.contains(from))
                 && rfa.region.contains(to))
@@ -100,7 +109,7 @@ public class RegionMatchModule implements MatchModule, Listener {
       }
     } else {
       // To preserve legacy behavior exactly, these need to be in seperate loops
-      for (RegionFilterApplication rfa : this.rfaContext.get(RFAScope.PLAYER_ENTER)) {
+      for (RegionFilterApplication rfa : this.rfaContext.get(RFAScope.PLAYER_ENTER, toPos)) {
         if ((from == null || !rfa.region.contains(from)) && rfa.region.contains(to)) {
           if (processQuery(rfa, query) && rfa.useRegionPriority) {
             break;
@@ -108,7 +117,10 @@ public class RegionMatchModule implements MatchModule, Listener {
         }
       }
 
-      for (RegionFilterApplication rfa : this.rfaContext.get(RFAScope.PLAYER_LEAVE)) {
+      Iterable<RegionFilterApplication> leaveRfas = fromPos == null
+          ? this.rfaContext.get(RFAScope.PLAYER_LEAVE)
+          : this.rfaContext.get(RFAScope.PLAYER_LEAVE, fromPos);
+      for (RegionFilterApplication rfa : leaveRfas) {
         if ((from == null || rfa.region.contains(from)) && !rfa.region.contains(to)) {
           if (processQuery(rfa, query) && rfa.useRegionPriority) {
             break;
@@ -139,7 +151,7 @@ public class RegionMatchModule implements MatchModule, Listener {
     Vector to = event.getBlockTo().toVector();
     Query query = new tc.oc.pgm.filters.query.PlayerQuery(event, player);
 
-    for (RegionFilterApplication rfa : this.rfaContext.get(RFAScope.EFFECT)) {
+    for (RegionFilterApplication rfa : this.rfaContext.get(RFAScope.EFFECT, from, to)) {
       if (rfa.velocity == null && rfa.kit == null) continue;
 
       boolean enters = rfa.region.enters(from, to);
@@ -168,6 +180,12 @@ public class RegionMatchModule implements MatchModule, Listener {
     }
   }
 
+  @EventHandler(priority = EventPriority.HIGH)
+  public void checkBlockTransform(BlockTransformBatchEvent batch) {
+    if (batch.getWorld() != match.getWorld()) return;
+    batch.forEachUncancelled(this::checkBlockTransform);
+  }
+
   @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
   public void checkBlockTransform(final BlockTransformEvent event) {
     Vector pos = BlockVectors.center(event.getNewState()).toVector();
@@ -187,10 +205,14 @@ public class RegionMatchModule implements MatchModule, Listener {
         againstBlock == null ? null : Queries.block(event, actor, againstBlock);
 
     if (this.useRegionPriority) {
+      Iterable<RegionFilterApplication> rfas = againstBlock == null
+          ? this.rfaContext.getAll(pos)
+          : this.rfaContext.getAll(pos, BlockVectors.position(againstBlock));
+
       // Note that the event may be in multiple scopes, which is why they must all be handled in the
       // same pass
       rfaLoop:
-      for (RegionFilterApplication rfa : this.rfaContext.getAll()) {
+      for (RegionFilterApplication rfa : rfas) {
         switch (rfa.scope) {
           case BLOCK_BREAK:
             if (event.isBreak() && rfa.region.contains(event.getOldState())) {
@@ -222,13 +244,13 @@ public class RegionMatchModule implements MatchModule, Listener {
     } else {
       // Legacy behavior
       if (event.isPlace()) {
-        for (RegionFilterApplication rfa : this.rfaContext.get(RFAScope.BLOCK_PLACE)) {
+        for (RegionFilterApplication rfa : this.rfaContext.get(RFAScope.BLOCK_PLACE, pos)) {
           if (rfa.region.contains(pos) && processQuery(rfa, placeQuery) && rfa.useRegionPriority) {
             break;
           }
         }
       } else {
-        for (RegionFilterApplication rfa : this.rfaContext.get(RFAScope.BLOCK_BREAK)) {
+        for (RegionFilterApplication rfa : this.rfaContext.get(RFAScope.BLOCK_BREAK, pos)) {
           if (rfa.region.contains(pos) && processQuery(rfa, breakQuery) && rfa.useRegionPriority) {
             break;
           }
@@ -241,7 +263,8 @@ public class RegionMatchModule implements MatchModule, Listener {
   public void checkBlockPhysics(final BlockPhysicsEvent event) {
     tc.oc.pgm.filters.query.BlockQuery query =
         new tc.oc.pgm.filters.query.BlockQuery(event, event.getBlock().getState());
-    for (RegionFilterApplication rfa : this.rfaContext.get(RFAScope.BLOCK_PHYSICS)) {
+    Vector pos = event.getBlock().getLocation().toVector();
+    for (RegionFilterApplication rfa : this.rfaContext.get(RFAScope.BLOCK_PHYSICS, pos)) {
       if (rfa.region.contains(event.getBlock()) && processQuery(rfa, query)) break;
     }
   }
@@ -254,7 +277,8 @@ public class RegionMatchModule implements MatchModule, Listener {
     PlayerBlockQuery query =
         new PlayerBlockQuery(event, player, event.getBlock().getState());
 
-    for (RegionFilterApplication rfa : this.rfaContext.get(RFAScope.BLOCK_BREAK)) {
+    Vector pos = event.getBlock().getLocation().toVector();
+    for (RegionFilterApplication rfa : this.rfaContext.get(RFAScope.BLOCK_BREAK, pos)) {
       if (rfa.earlyWarning && rfa.region.contains(event.getBlock())) {
         if (processQuery(rfa, query)) {
           if (event.isCancelled() && rfa.message != null) {
@@ -329,7 +353,8 @@ public class RegionMatchModule implements MatchModule, Listener {
 
     PlayerBlockQuery query = new PlayerBlockQuery(event, player, blockState).withMaterial(md);
 
-    for (RegionFilterApplication rfa : this.rfaContext.get(RFAScope.USE)) {
+    Vector pos = BlockVectors.position(blockState);
+    for (RegionFilterApplication rfa : this.rfaContext.get(RFAScope.USE, pos)) {
       if (rfa.region.contains(blockState) && processQuery(rfa, query)) {
         if (query.getEvent() instanceof PlayerInteractEvent pie && pie.isCancelled()) {
           pie.setCancelled(false);
@@ -350,7 +375,8 @@ public class RegionMatchModule implements MatchModule, Listener {
   private void handleHangingPlace(Event event, Block block, MaterialData material, Entity placer) {
     Query query = makeBlockQuery(event, placer, block, material);
 
-    for (RegionFilterApplication rfa : this.rfaContext.get(RFAScope.BLOCK_PLACE)) {
+    Vector pos = block.getLocation().toVector();
+    for (RegionFilterApplication rfa : this.rfaContext.get(RFAScope.BLOCK_PLACE, pos)) {
       if (rfa.region.contains(block) && processQuery(rfa, query)) {
         sendCancelMessage(rfa, query);
         if (this.useRegionPriority || rfa.useRegionPriority) break;
@@ -365,7 +391,8 @@ public class RegionMatchModule implements MatchModule, Listener {
 
     Query query = makeBlockQuery(event, breaker, block, material);
 
-    for (RegionFilterApplication rfa : this.rfaContext.get(RFAScope.BLOCK_BREAK)) {
+    Vector pos = block.getLocation().toVector();
+    for (RegionFilterApplication rfa : this.rfaContext.get(RFAScope.BLOCK_BREAK, pos)) {
       if (rfa.region.contains(block) && processQuery(rfa, query)) {
         sendCancelMessage(rfa, query);
         if (this.useRegionPriority || rfa.useRegionPriority) break;
@@ -0,0 +1,66 @@
+package tc.oc.pgm.renewable;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import tc.oc.pgm.util.block.BlockVectors;
+
+/**
+ * Remembers whether the original block at each position is renewable and shuffleable. Original
+ * blocks never change, so each position only needs to be classified once.
+ *
+ * <p>Positions are classified the first time they are looked up, and stored as bits in one array
+ * per 16x16x16 chunk section.
+ */
+class OriginalBlockIndex {
+  // Words of 64 bits needed for one bit per block of a section
+  private static final int WORDS = 4096 / 64;
+  private static final int KNOWN = 0;
+  private static final int RENEWABLE = 1;
+  private static final int SHUFFLEABLE = 2;
+
+  @FunctionalInterface
+  interface Classifier {
+    boolean test(int x, int y, int z);
+  }
+
+  private final Long2ObjectMap<long[]> sections = new Long2ObjectOpenHashMap<>();
+  private final Classifier renewable;
+  private final Classifier shuffleable;
+
+  OriginalBlockIndex(Classifier renewable, Classifier shuffleable) {
+    this.renewable = renewable;
+    this.shuffleable = shuffleable;
+  }
+
+  boolean isRenewable(int x, int y, int z) {
+    return get(x, y, z, RENEWABLE);
+  }
+
+  boolean isShuffleable(int x, int y, int z) {
+    return get(x, y, z, SHUFFLEABLE);
+  }
+
+  int getSectionCount() {
+    return sections.size();
+  }
+
+  private boolean get(int x, int y, int z, int flag) {
+    long key = BlockVectors.encodePos(x >> 4, y >> 4, z >> 4);
+    long[] section = sections.get(key);
+    if (section == null) {
+      sections.put(key, section = new long[WORDS * 3]);
+    }
+
+    int index = (y & 15) << 8 | (z & 15) << 4 | (x & 15);
+    int word = index >> 6;
+    long bit = 1L << index; // Shifts only use the low 6 bits of the index
+
+    if ((section[KNOWN * WORDS + word] & bit) == 0) {
+      if (renewable.test(x, y, z)) section[RENEWABLE * WORDS + word] |= bit;
+      if (shuffleable.test(x, y, z)) section[SHUFFLEABLE * WORDS + word] |= bit;
+      section[KNOWN * WORDS + word] |= bit;
+    }
+
+    return (section[flag * WORDS + word] & bit) != 0;
+  }
+}
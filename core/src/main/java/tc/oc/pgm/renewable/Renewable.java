@@ -5,8 +5,7 @@ import static tc.oc.pgm.util.bukkit.Effects.EFFECTS;
 import com.google.common.collect.ImmutableRangeMap;
 import com.google.common.collect.Range;
 import com.google.common.collect.RangeMap;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Collection;
 import java.util.Random;
 import java.util.logging.Logger;
 import org.bukkit.Location;
@@ -15,14 +14,17 @@ import org.bukkit.block.BlockFace;
 import org.bukkit.block.BlockState;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
-import org.bukkit.event.Listener;
 import org.bukkit.util.BlockVector;
+import org.jetbrains.annotations.Nullable;
+import tc.oc.pgm.api.event.BlockTransformBatchEvent;
+import tc.oc.pgm.api.event.BlockTransformBatchEvent.BatchListener;
 import tc.oc.pgm.api.event.BlockTransformEvent;
 import tc.oc.pgm.api.filter.Filter;
 import tc.oc.pgm.api.match.Match;
 import tc.oc.pgm.api.match.Tickable;
 import tc.oc.pgm.api.player.MatchPlayer;
 import tc.oc.pgm.api.time.Tick;
+import tc.oc.pgm.filters.matcher.match.RandomFilter;
 import tc.oc.pgm.filters.query.BlockQuery;
 import tc.oc.pgm.snapshot.SnapshotMatchModule;
 import tc.oc.pgm.util.ClassLogger;
@@ -33,7 +35,7 @@ import tc.oc.pgm.util.material.BlockMaterialData;
 import tc.oc.pgm.util.material.MaterialCounter;
 import tc.oc.pgm.util.material.MaterialData;
 
-public class Renewable implements Listener, Tickable {
+public class Renewable implements BatchListener, Tickable {
 
   private static final int MAX_FAILED_ITERATIONS = 100;
   private static final int SHUFFLE_SAMPLE_ITERATIONS = 10;
@@ -56,23 +58,38 @@ public class Renewable implements Listener, Tickable {
 
   private SnapshotMatchModule snapshotMatchModule;
 
-  // Cached queries of the renewable/shuffleable filters, invalidated every tick.
-  // These are queries of the original blocks, not the current blocks.
-  // This should cut down on repeated queries.
-  private Map<BlockVector, Filter.QueryResponse> renewableCache = new HashMap<>();
-  private Map<BlockVector, Filter.QueryResponse> shuffleableCache = new HashMap<>();
+  // Results of the renewable/shuffleable filters for the original blocks, not the current blocks.
+  // Null if the filters can change their response, in which case they are queried every time.
+  private final @Nullable OriginalBlockIndex originalBlocks;
+
+  // Eye positions of the participants, taken once per tick for isClearOfEntities
+  private double[] participantPositions = new double[0];
+  private int participantCount;
+  private long participantsTick = -1;
 
   public Renewable(RenewableDefinition definition, Match match, Logger parent) {
     this.definition = definition;
     this.match = match;
     this.logger = ClassLogger.get(parent, getClass());
+    this.originalBlocks =
+        isConstant(definition.renewableBlocks) && isConstant(definition.shuffleableBlocks)
+            ? new OriginalBlockIndex(
+                (x, y, z) -> queryOriginal(definition.renewableBlocks, x, y, z),
+                (x, y, z) -> queryOriginal(definition.shuffleableBlocks, x, y, z))
+            : null;
 
     updateLastTick();
   }
 
-  void invalidateCaches() {
-    renewableCache.clear();
-    shuffleableCache.clear();
+  /** Whether the filter always gives the same response for the same original block. */
+  private static boolean isConstant(Filter filter) {
+    return filter
+        .deepDependencies(Filter.class)
+        .noneMatch(dep -> dep.isDynamic() || dep instanceof RandomFilter);
+  }
+
+  private boolean queryOriginal(Filter filter, int x, int y, int z) {
+    return filter.query(new BlockQuery(snapshot().getOriginalBlock(x, y, z))).isAllowed();
   }
 
   SnapshotMatchModule snapshot() {
@@ -84,21 +101,26 @@ public class Renewable implements Listener, Tickable {
 
   boolean isOriginalRenewable(BlockVector pos) {
     if (!definition.region.contains(pos)) return false;
-    Filter.QueryResponse response = renewableCache.get(pos);
-    if (response == null) {
-      response = definition.renewableBlocks.query(new BlockQuery(snapshot().getOriginalBlock(pos)));
-    }
-    return response.isAllowed();
+    int x = pos.getBlockX(), y = pos.getBlockY(), z = pos.getBlockZ();
+    return originalBlocks != null
+        ? originalBlocks.isRenewable(x, y, z)
+        : queryOriginal(definition.renewableBlocks, x, y, z);
   }
 
   boolean isOriginalShuffleable(BlockVector pos) {
     if (!definition.region.contains(pos)) return false;
-    Filter.QueryResponse response = shuffleableCache.get(pos);
-    if (response == null) {
-      response =
-          definition.shuffleableBlocks.query(new BlockQuery(snapshot().getOriginalBlock(pos)));
-    }
-    return response.isAllowed();
+    return isOriginalShuffleable(pos.getBlockX(), pos.getBlockY(), pos.getBlockZ());
+  }
+
+  private boolean isOriginalShuffleable(int x, int y, int z) {
+    return originalBlocks != null
+        ? originalBlocks.isShuffleable(x, y, z)
+        : queryOriginal(definition.shuffleableBlocks, x, y, z);
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onBlockChange(BlockTransformBatchEvent batch) {
+    batch.forEachUncancelled(this::onBlockChange);
   }
 
   @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
@@ -126,8 +148,6 @@ public class Renewable implements Listener, Tickable {
 
   @Override
   public void tick(Match match, Tick tick) {
-    invalidateCaches();
-
     float interval = updateLastTick(); // should always be 1
     float count = interval * definition.renewalsPerSecond / 20f; // calculate renewals per tick
     if (definition.rateScaled) count *= renewablePool.size();
@@ -197,10 +217,15 @@ public class Renewable implements Listener, Tickable {
   boolean isClearOfEntities(BlockVector pos) {
     if (definition.avoidPlayersRange > 0d) {
       double rangeSquared = definition.avoidPlayersRange * definition.avoidPlayersRange;
-      pos = BlockVectors.center(pos);
-      for (MatchPlayer player : match.getParticipants()) {
-        Location location = player.getBukkit().getLocation().add(0, 1, 0);
-        if (location.toVector().distanceSquared(pos) < rangeSquared) {
+      double x = pos.getBlockX() + 0.5, y = pos.getBlockY() + 0.5, z = pos.getBlockZ() + 0.5;
+
+      // Many positions can be tried in a tick, and players can't move in between
+      updateParticipantPositions();
+      for (int i = 0; i < participantCount * 3; i += 3) {
+        double dx = participantPositions[i] - x;
+        double dy = participantPositions[i + 1] - y;
+        double dz = participantPositions[i + 2] - z;
+        if (dx * dx + dy * dy + dz * dz < rangeSquared) {
           return false;
         }
       }
@@ -208,18 +233,35 @@ public class Renewable implements Listener, Tickable {
     return true;
   }
 
+  private void updateParticipantPositions() {
+    long tick = match.getTick().tick;
+    if (participantsTick == tick) return;
+    participantsTick = tick;
+
+    Collection<MatchPlayer> participants = match.getParticipants();
+    if (participantPositions.length < participants.size() * 3) {
+      participantPositions = new double[participants.size() * 3];
+    }
+
+    participantCount = 0;
+    for (MatchPlayer player : participants) {
+      Location location = player.getBukkit().getLocation();
+      participantPositions[participantCount * 3] = location.getX();
+      participantPositions[participantCount * 3 + 1] = location.getY() + 1;
+      participantPositions[participantCount * 3 + 2] = location.getZ();
+      participantCount++;
+    }
+  }
+
   BlockMaterialData sampleShuffledMaterial(BlockVector pos) {
     Random random = match.getRandom();
     int range = SHUFFLE_SAMPLE_RANGE;
     int diameter = range * 2 + 1;
     for (int i = 0; i < SHUFFLE_SAMPLE_ITERATIONS; i++) {
-      BlockState block = snapshot()
-          .getOriginalBlock(
-              pos.getBlockX() + random.nextInt(diameter) - range,
-              pos.getBlockY() + random.nextInt(diameter) - range,
-              pos.getBlockZ() + random.nextInt(diameter) - range);
-      if (definition.shuffleableBlocks.query(new BlockQuery(block)).isAllowed())
-        return MaterialData.block(block);
+      int x = pos.getBlockX() + random.nextInt(diameter) - range;
+      int y = pos.getBlockY() + random.nextInt(diameter) - range;
+      int z = pos.getBlockZ() + random.nextInt(diameter) - range;
+      if (isOriginalShuffleable(x, y, z)) return snapshot().getOriginalMaterial(x, y, z);
     }
     return null;
   }
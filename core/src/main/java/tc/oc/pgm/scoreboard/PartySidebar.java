@@ -0,0 +1,97 @@
+package tc.oc.pgm.scoreboard;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.TranslationArgument;
+import org.jetbrains.annotations.Nullable;
+import tc.oc.pgm.api.party.Competitor;
+import tc.oc.pgm.api.party.Party;
+import tc.oc.pgm.api.player.MatchPlayer;
+import tc.oc.pgm.goals.Goal;
+import tc.oc.pgm.util.text.RenderableComponent;
+import tc.oc.pgm.util.text.TextTranslations;
+
+/**
+ * The sidebar rows seen by a party, and their translations for each locale.
+ *
+ * <p>Most rows translate the same for every viewer of a locale, so they are only translated once
+ * per locale. Rows with a {@link RenderableComponent}, like player names, depend on the viewer and
+ * are translated for each of them.
+ */
+class PartySidebar {
+
+  record GoalRow(int index, @Nullable Competitor competitor) {}
+
+  private final Party party;
+  private final List<Component> rows;
+  private final boolean[] shared;
+  // The rows showing each goal, so they can be rendered again on their own
+  private final Map<Goal<?>, List<GoalRow>> goalRows;
+  // Shared rows translated for each locale, null until needed
+  private final Map<Locale, String[]> lines = new HashMap<>();
+
+  PartySidebar(Party party, List<Component> rows, Map<Goal<?>, List<GoalRow>> goalRows) {
+    this.party = party;
+    this.rows = rows;
+    this.goalRows = goalRows;
+    this.shared = new boolean[rows.size()];
+    for (int i = 0; i < rows.size(); i++) {
+      shared[i] = isShared(rows.get(i));
+    }
+  }
+
+  List<String> getLines(SidebarRenderer renderer, MatchPlayer viewer) {
+    String[] translated =
+        lines.computeIfAbsent(TextTranslations.getLocale(viewer), l -> new String[rows.size()]);
+
+    List<String> result = new ArrayList<>(rows.size());
+    for (int i = 0; i < rows.size(); i++) {
+      if (!shared[i]) {
+        result.add(renderer.renderRow(rows.get(i), viewer));
+      } else {
+        if (translated[i] == null) translated[i] = renderer.renderRow(rows.get(i), viewer);
+        result.add(translated[i]);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Render the rows of a goal again, without the rest of the sidebar.
+   *
+   * @return Whether the goal is shown in this sidebar.
+   */
+  boolean renderGoal(SidebarRenderer renderer, Goal<?> goal) {
+    List<GoalRow> goalRows = this.goalRows.get(goal);
+    if (goalRows == null) return false;
+
+    for (GoalRow row : goalRows) {
+      Component rendered = renderer.renderGoal(goal, row.competitor(), party);
+      rows.set(row.index(), rendered);
+      shared[row.index()] = isShared(rendered);
+      for (String[] translated : lines.values()) {
+        translated[row.index()] = null;
+      }
+    }
+    return true;
+  }
+
+  /** Whether the component translates the same for every viewer with the same locale */
+  private static boolean isShared(Component component) {
+    if (component instanceof RenderableComponent) return false;
+    if (component instanceof TranslatableComponent translatable) {
+      for (TranslationArgument argument : translatable.arguments()) {
+        if (argument.value() instanceof Component arg && !isShared(arg)) return false;
+      }
+    }
+    for (Component child : component.children()) {
+      if (!isShared(child)) return false;
+    }
+    return true;
+  }
+}
@@ -8,6 +8,7 @@ import java.util.List;
 import java.util.Map;
 import net.kyori.adventure.text.Component;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import tc.oc.pgm.api.match.Match;
 import tc.oc.pgm.api.party.Competitor;
 import tc.oc.pgm.api.party.Party;
@@ -32,6 +33,7 @@ class RenderContext {
   public final boolean isSuperCompact;
 
   private final List<Component> rows = new ArrayList<>(SidebarRenderer.MAX_ROWS);
+  private final Map<Goal<?>, List<PartySidebar.GoalRow>> goalRows = new HashMap<>();
 
   private boolean addSpace = false;
 
@@ -76,6 +78,17 @@ class RenderContext {
     this.rows.add(row);
   }
 
+  public void addGoalRow(Goal<?> goal, @Nullable Competitor competitor, Component row) {
+    addRow(row);
+    goalRows
+        .computeIfAbsent(goal, ignored -> new ArrayList<>())
+        .add(new PartySidebar.GoalRow(rows.size() - 1, competitor));
+  }
+
+  public PartySidebar getSidebar() {
+    return new PartySidebar(viewer, getResult(), goalRows);
+  }
+
   public List<Component> getResult() {
     // Needs at least one empty row for scoreboard to show
     if (rows.isEmpty()) {
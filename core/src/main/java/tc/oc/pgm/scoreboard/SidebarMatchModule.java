@@ -1,14 +1,15 @@
 package tc.oc.pgm.scoreboard;
 
-import com.google.common.collect.Collections2;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import fr.mrmicky.fastboard.FastBoard;
 import java.time.Duration;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
@@ -79,6 +80,8 @@ public class SidebarMatchModule implements MatchModule, Listener {
 
   protected final Map<UUID, FastBoard> sidebars = new HashMap<>();
   protected final Map<Goal<?>, BlinkTask> blinkingGoals = new HashMap<>();
+  // The rows last rendered for each party, kept to update single rows
+  private Map<Party, PartySidebar> partySidebars = new HashMap<>();
 
   protected @Nullable Future<?> renderTask;
   private final RateLimiter rateLimit = new RateLimiter(50, 1000, 40, 1000);
@@ -145,6 +148,7 @@ public class SidebarMatchModule implements MatchModule, Listener {
   @Override
   public void unload() {
     this.sidebars.clear();
+    this.partySidebars.clear();
   }
 
   @EventHandler
@@ -161,7 +165,7 @@ public class SidebarMatchModule implements MatchModule, Listener {
     if (match.isFinished()) {
       var player = event.getPlayer();
       var rows = renderer.renderSidebar(player.getParty());
-      sidebar.updateLines(Collections2.transform(rows, r -> renderer.renderRow(r, player)));
+      updateLines(sidebar, rows.getLines(renderer, player));
     }
   }
 
@@ -206,9 +210,8 @@ public class SidebarMatchModule implements MatchModule, Listener {
     if (event.getGoal() instanceof Destroyable
         && ((Destroyable) event.getGoal()).getShowProgress()) {
       blinkGoal(event.getGoal(), 3, Duration.ofSeconds(1));
-    } else {
-      renderSidebarDebounce();
     }
+    renderSidebarDebounce();
   }
 
   @EventHandler(priority = EventPriority.MONITOR)
@@ -277,14 +280,45 @@ public class SidebarMatchModule implements MatchModule, Listener {
   }
 
   private void renderSidebar() {
-    Map<Party, List<Component>> cache = new HashMap<>();
+    Map<Party, PartySidebar> cache = new HashMap<>();
 
     for (MatchPlayer player : this.match.getPlayers()) {
       FastBoard sidebar = this.sidebars.get(player.getId());
       if (sidebar == null) continue;
 
-      List<Component> rows = cache.computeIfAbsent(player.getParty(), renderer::renderSidebar);
-      sidebar.updateLines(Collections2.transform(rows, r -> renderer.renderRow(r, player)));
+      PartySidebar rows = cache.computeIfAbsent(player.getParty(), renderer::renderSidebar);
+      updateLines(sidebar, rows.getLines(renderer, player));
+    }
+
+    this.partySidebars = cache;
+  }
+
+  /** Render only the rows of a goal, for every party that shows it */
+  private void renderGoal(Goal<?> goal) {
+    Set<Party> changed = new HashSet<>();
+    for (Map.Entry<Party, PartySidebar> entry : partySidebars.entrySet()) {
+      if (entry.getValue().renderGoal(renderer, goal)) changed.add(entry.getKey());
+    }
+    if (changed.isEmpty()) return;
+
+    for (MatchPlayer player : this.match.getPlayers()) {
+      FastBoard sidebar = this.sidebars.get(player.getId());
+      if (sidebar == null || !changed.contains(player.getParty())) continue;
+
+      updateLines(sidebar, partySidebars.get(player.getParty()).getLines(renderer, player));
+    }
+  }
+
+  /** Send only the lines that are different from what the player currently sees */
+  private void updateLines(FastBoard sidebar, List<String> lines) {
+    List<String> current = sidebar.getLines();
+    if (current.size() != lines.size()) {
+      sidebar.updateLines(lines);
+      return;
+    }
+
+    for (int i = 0; i < lines.size(); i++) {
+      if (!lines.get(i).equals(current.get(i))) sidebar.updateLine(i, lines.get(i));
     }
   }
 
@@ -328,7 +362,7 @@ public class SidebarMatchModule implements MatchModule, Listener {
     public void stop() {
       this.task.cancel(true);
       SidebarMatchModule.this.blinkingGoals.remove(this.goal);
-      renderSidebarDebounce();
+      renderGoal(this.goal);
     }
 
     public boolean isDark() {
@@ -346,7 +380,7 @@ public class SidebarMatchModule implements MatchModule, Listener {
       }
 
       this.dark = !this.dark;
-      renderSidebarDebounce();
+      renderGoal(this.goal);
     }
   }
 }
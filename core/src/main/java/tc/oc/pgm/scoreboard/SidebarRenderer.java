@@ -110,7 +110,7 @@ class SidebarRenderer {
     return TextFormatter.list(games, NamedTextColor.AQUA);
   }
 
-  public List<Component> renderSidebar(final Party party) {
+  public PartySidebar renderSidebar(final Party party) {
     RenderContext context = new RenderContext(match, party);
 
     // Scores/Blitz
@@ -130,7 +130,7 @@ class SidebarRenderer {
     // Config-based footer, if any is defined
     renderFooter(context);
 
-    return context.getResult();
+    return context.getSidebar();
   }
 
   private void renderScoresOrBlitz(RenderContext context) {
@@ -164,7 +164,7 @@ class SidebarRenderer {
   private void renderSharedGoals(RenderContext context) {
     context.startSection();
     for (Goal<?> goal : context.sharedGoals) {
-      context.addRow(this.renderGoal(goal, null, context.viewer));
+      context.addGoalRow(goal, null, this.renderGoal(goal, null, context.viewer));
     }
   }
 
@@ -212,7 +212,7 @@ class SidebarRenderer {
     } else {
       // Not compact; add a row for each of this team's goals
       for (Goal<?> goal : context.competitorGoals.get(competitor)) {
-        context.addRow(this.renderGoal(goal, competitor, context.viewer));
+        context.addGoalRow(goal, competitor, this.renderGoal(goal, competitor, context.viewer));
       }
     }
   }
@@ -242,7 +242,7 @@ class SidebarRenderer {
     }
   }
 
-  private Component renderGoal(Goal<?> goal, @Nullable Competitor competitor, Party viewingParty) {
+  Component renderGoal(Goal<?> goal, @Nullable Competitor competitor, Party viewingParty) {
     final SidebarMatchModule.BlinkTask blinkTask = smm.blinkingGoals.get(goal);
     final TextComponent.Builder line = text();
 
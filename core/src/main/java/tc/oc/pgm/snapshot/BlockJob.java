@@ -0,0 +1,104 @@
+package tc.oc.pgm.snapshot;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+import org.jetbrains.annotations.Nullable;
+import tc.oc.pgm.util.block.BlockWriter;
+
+/**
+ * Changes the blocks of a region, one position at a time. A job can run to completion right away,
+ * or be submitted to the {@link SnapshotMatchModule} to run over several ticks, spending at most
+ * its budget of time on each tick.
+ *
+ * @param <T> the type of positions iterated by the job
+ */
+public class BlockJob<T> {
+  // Reading the clock is not free, so it is only checked every few steps
+  private static final int STEPS_PER_CHECK = 16;
+
+  private final String name;
+  private final Iterator<T> positions;
+  private final Consumer<? super T> step;
+  private final @Nullable BlockWriter writer;
+  private final @Nullable Runnable onComplete;
+  private final long budget;
+
+  private long steps;
+  private boolean completed;
+
+  /**
+   * Create a new job.
+   *
+   * @param name a name describing the job
+   * @param positions the positions to change
+   * @param step changes the block at a position
+   * @param writer the writer used by the step, flushed after each run
+   * @param onComplete run once every position was changed
+   * @param budget the time to spend on each tick, in nanoseconds
+   */
+  public BlockJob(
+      String name,
+      Iterator<T> positions,
+      Consumer<? super T> step,
+      @Nullable BlockWriter writer,
+      @Nullable Runnable onComplete,
+      long budget) {
+    this.name = name;
+    this.positions = positions;
+    this.step = step;
+    this.writer = writer;
+    this.onComplete = onComplete;
+    this.budget = budget;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  /** @return the number of positions changed so far */
+  public long getProgress() {
+    return steps;
+  }
+
+  public long getBudget() {
+    return budget;
+  }
+
+  public boolean isDone() {
+    return !positions.hasNext();
+  }
+
+  /** Change every remaining position right away. */
+  public void complete() {
+    run(Long.MAX_VALUE);
+  }
+
+  /**
+   * Change positions until either all of them are changed or the time runs out.
+   *
+   * @param nanos the time to spend, in nanoseconds
+   * @return whether the job is done
+   */
+  boolean run(long nanos) {
+    long start = System.nanoTime();
+    int unchecked = 0;
+    while (positions.hasNext()) {
+      step.accept(positions.next());
+      steps++;
+      if (++unchecked == STEPS_PER_CHECK) {
+        if (System.nanoTime() - start >= nanos) break;
+        unchecked = 0;
+      }
+    }
+
+    if (writer != null) writer.flush();
+    if (positions.hasNext()) return false;
+
+    // A job may be run again once done, if it was completed while finishing
+    if (!completed) {
+      completed = true;
+      if (onComplete != null) onComplete.run();
+    }
+    return true;
+  }
+}
@@ -1,12 +1,18 @@
 package tc.oc.pgm.snapshot;
 
+import static tc.oc.pgm.util.nms.NMSHacks.NMS_HACKS;
+
 import org.bukkit.Material;
 import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.util.BlockVector;
+import org.jetbrains.annotations.Nullable;
 import tc.oc.pgm.api.match.Match;
 import tc.oc.pgm.api.region.Region;
 import tc.oc.pgm.util.block.BlockData;
+import tc.oc.pgm.util.block.BlockWriter;
+import tc.oc.pgm.util.material.BlockMaterialData;
+import tc.oc.pgm.util.material.MaterialData;
 
 /**
  * Utils to save, remove and paste blocks in some {@link Region} in some {@link Match} using the
@@ -14,6 +20,7 @@ import tc.oc.pgm.util.block.BlockData;
  */
 class BudgetWorldEdit {
   private static final BlockVector NO_OFFSET = new BlockVector(0, 0, 0);
+  private static final BlockMaterialData AIR = MaterialData.block(Material.AIR);
 
   private final World world;
   private final WorldSnapshot snapshot;
@@ -30,10 +37,36 @@ class BudgetWorldEdit {
    * @param offset the offset to add when placing blocks
    */
   public void placeBlocks(Region region, BlockVector offset, boolean update) {
-    if (offset == null) offset = NO_OFFSET;
-    for (BlockData blockData : snapshot.getMaterials(region)) {
-      blockData.applyTo(blockData.getBlock(world, offset), update);
-    }
+    placeJob(region, offset, update, null, 0).complete();
+  }
+
+  /**
+   * Create a job placing blocks in the region from the {@link SnapshotMatchModule} memory.
+   *
+   * @param region region where the blocks were when they got saved
+   * @param offset the offset to add when placing blocks
+   * @param onComplete run once every block is placed
+   * @param budget the time to spend on each tick, in nanoseconds
+   */
+  public BlockJob<BlockData> placeJob(
+      Region region,
+      BlockVector offset,
+      boolean update,
+      @Nullable Runnable onComplete,
+      long budget) {
+    BlockVector shift = offset == null ? NO_OFFSET : offset;
+    // Without physics, blocks can be written in bulk
+    BlockWriter writer = update ? null : NMS_HACKS.createBlockWriter(world);
+    return new BlockJob<>(
+        "place",
+        snapshot.getMaterials(region).iterator(),
+        blockData -> {
+          if (writer != null) write(writer, blockData, shift, blockData);
+          else blockData.applyTo(blockData.getBlock(world, shift), true);
+        },
+        writer,
+        onComplete,
+        budget);
   }
 
   /**
@@ -43,11 +76,31 @@ class BudgetWorldEdit {
    * @param offset an offset to add to the region coordinates if the blocks were offset when placed
    */
   public void removeBlocks(Region region, BlockVector offset, boolean update) {
-    if (offset == null) offset = NO_OFFSET;
+    BlockVector shift = offset == null ? NO_OFFSET : offset;
+    if (!update) {
+      // The writer skips blocks that are already air
+      BlockWriter writer = NMS_HACKS.createBlockWriter(world);
+      for (BlockData blockData : snapshot.getMaterials(region)) {
+        write(writer, blockData, shift, AIR);
+      }
+      writer.flush();
+      return;
+    }
+
     for (BlockData blockData : snapshot.getMaterials(region)) {
-      Block block = blockData.getBlock(world, offset);
+      Block block = blockData.getBlock(world, shift);
       // Ignore if already air
-      if (!block.getType().equals(Material.AIR)) block.setType(Material.AIR, update);
+      if (!block.getType().equals(Material.AIR)) block.setType(Material.AIR, true);
     }
   }
+
+  private static void write(
+      BlockWriter writer, BlockData blockData, BlockVector offset, BlockMaterialData material) {
+    BlockVector pos = blockData.getBlockVector();
+    writer.set(
+        pos.getBlockX() + offset.getBlockX(),
+        pos.getBlockY() + offset.getBlockY(),
+        pos.getBlockZ() + offset.getBlockZ(),
+        material);
+  }
 }
@@ -0,0 +1,70 @@
+package tc.oc.pgm.snapshot;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockState;
+import org.bukkit.util.BlockVector;
+import org.jetbrains.annotations.Nullable;
+import tc.oc.pgm.util.block.BlockData;
+import tc.oc.pgm.util.chunk.ChunkVector;
+import tc.oc.pgm.util.material.BlockMaterialData;
+import tc.oc.pgm.util.material.MaterialData;
+
+/** Keeps a full Bukkit {@link ChunkSnapshot} of every saved chunk. */
+class ChunkSnapshotStore implements SnapshotStore {
+  private final World world;
+  private final Map<ChunkVector, ChunkSnapshot> chunkSnapshots = new HashMap<>();
+
+  ChunkSnapshotStore(World world) {
+    this.world = world;
+  }
+
+  @Override
+  public @Nullable BlockMaterialData getMaterial(int x, int y, int z) {
+    ChunkVector chunkVector = ChunkVector.ofBlock(x, y, z);
+    ChunkSnapshot chunkSnapshot = chunkSnapshots.get(chunkVector);
+    if (chunkSnapshot == null) return null;
+    return MaterialData.block(chunkSnapshot, chunkVector.worldToChunk(x, y, z));
+  }
+
+  @Override
+  public void save(ChunkVector cv, @Nullable BlockState oldState) {
+    chunkSnapshots.computeIfAbsent(cv, vec -> {
+      if (oldState == null) return vec.getChunk(world).getChunkSnapshot(false, false, false);
+
+      // ChunkSnapshot will have the post-event state unless we revert
+      Block block = oldState.getBlock();
+
+      BlockMaterialData old = MaterialData.block(oldState);
+      BlockMaterialData current = MaterialData.block(block);
+      boolean isModified = !old.equals(current);
+      if (isModified) old.applyTo(block, false);
+
+      var snap = vec.getChunk(world).getChunkSnapshot(false, false, false);
+
+      if (isModified) current.applyTo(block, false);
+
+      return snap;
+    });
+  }
+
+  @Override
+  public Iterator<BlockData> iterator(Iterator<BlockVector> vectors) {
+    return MaterialData.iterator(chunkSnapshots, vectors);
+  }
+
+  @Override
+  public int getChunkCount() {
+    return chunkSnapshots.size();
+  }
+
+  @Override
+  public long getMemoryUsage() {
+    // Chunk snapshot layouts are platform specific
+    return -1;
+  }
+}
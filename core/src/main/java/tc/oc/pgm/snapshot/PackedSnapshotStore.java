@@ -0,0 +1,380 @@
+package tc.oc.pgm.snapshot;
+
+import static tc.oc.pgm.util.material.MaterialUtils.MATERIAL_UTILS;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockState;
+import org.bukkit.entity.FallingBlock;
+import org.bukkit.entity.Player;
+import org.bukkit.util.BlockVector;
+import org.jetbrains.annotations.Nullable;
+import tc.oc.pgm.api.region.Region;
+import tc.oc.pgm.regions.Bounds;
+import tc.oc.pgm.util.block.BlockData;
+import tc.oc.pgm.util.chunk.ChunkVector;
+import tc.oc.pgm.util.material.BlockMaterialData;
+import tc.oc.pgm.util.material.MaterialData;
+import tc.oc.pgm.util.material.MaterialMatcher;
+
+/**
+ * Keeps only the 16x16x16 sections that were saved, as packed arrays of {@link
+ * BlockMaterialData#encoded()} materials keyed by chunk.
+ *
+ * <p>Encoded materials are stored as unsigned 16-bit values, which fits every block state of the
+ * supported versions. Sections are copied lazily: saving a single block only copies the section it
+ * is in, and the rest of the chunk keeps reading from the live world until it is saved too.
+ *
+ * <p>Regions can also be saved in stages with {@link #queueRegion(Region)}: chunks are captured on
+ * the main thread within a time budget each tick by {@link #capture(long, Executor)}, and packed
+ * into sections off-thread. Until a chunk is captured, reads fall back to the live world, so any
+ * change to a queued chunk must go through {@link #save(ChunkVector, BlockState)} or {@link
+ * #complete(Region)} first.
+ */
+class PackedSnapshotStore implements SnapshotStore {
+  private static final int SECTIONS = 16;
+  private static final int SECTION_VOLUME = 16 * 16 * 16;
+
+  private final World world;
+  // Sections of each saved chunk, from the bottom up, null for sections that weren't saved
+  private final Long2ObjectMap<char[][]> chunks = new Long2ObjectOpenHashMap<>();
+  // Decoded materials are immutable, so share one instance per encoded value
+  private final Int2ObjectMap<BlockMaterialData> decoded = new Int2ObjectOpenHashMap<>();
+  private int sectionCount;
+
+  // Chunks waiting to be captured, in the order they were queued
+  private final Long2ObjectLinkedOpenHashMap<Pending> queued = new Long2ObjectLinkedOpenHashMap<>();
+  // Chunks captured on the main thread, waiting for their sections to be packed
+  private final Long2ObjectMap<Pending> captured = new Long2ObjectOpenHashMap<>();
+  // Packed sections, filled off-thread and installed on the main thread
+  private final Queue<Pending> packed = new ConcurrentLinkedQueue<>();
+
+  PackedSnapshotStore(World world) {
+    this.world = world;
+  }
+
+  private static long key(int chunkX, int chunkZ) {
+    return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+  }
+
+  private static int index(int x, int y, int z) {
+    return (y & 15) << 8 | (z & 15) << 4 | (x & 15);
+  }
+
+  private BlockMaterialData decode(int encoded) {
+    BlockMaterialData material = decoded.get(encoded);
+    if (material == null) decoded.put(encoded, material = MaterialData.decode(encoded));
+    return material;
+  }
+
+  @Override
+  public @Nullable BlockMaterialData getMaterial(int x, int y, int z) {
+    long key = key(x >> 4, z >> 4);
+    char[][] sections = chunks.get(key);
+    char[] section = sections == null ? null : sections[y >> 4];
+    if (section != null) return decode(section[index(x, y, z)]);
+
+    // Captured, but not yet packed
+    Pending pending = captured.get(key);
+    if (pending != null && pending.contains(y >> 4)) {
+      return decode(MATERIAL_UTILS.encode(pending.snapshot, x & 15, y, z & 15));
+    }
+    return null;
+  }
+
+  @Override
+  public void save(ChunkVector cv, @Nullable BlockState oldState) {
+    if (oldState == null) {
+      saveSections(cv, 0, SECTIONS - 1);
+      return;
+    }
+
+    int sectionY = oldState.getY() >> 4;
+    char[][] sections = sections(cv);
+    if (sections[sectionY] != null) return;
+
+    // The world may already have the post-event state, so overwrite it with the old one
+    char[] section = copySection(cv, sectionY);
+    section[index(oldState.getX(), oldState.getY(), oldState.getZ())] =
+        (char) MaterialData.block(oldState).encoded();
+    sections[sectionY] = section;
+    sectionCount++;
+  }
+
+  @Override
+  public void saveRegion(Region region) {
+    // Only the sections the region spans need to be saved
+    Bounds bounds = region.getBounds();
+    int minSection = bounds.getBlockMin().getBlockY() >> 4;
+    int maxSection = bounds.getBlockMaxInside().getBlockY() >> 4;
+    region.getChunkPositions().forEach(cv -> saveSections(cv, minSection, maxSection));
+  }
+
+  private char[][] sections(ChunkVector cv) {
+    long key = key(cv.getChunkX(), cv.getChunkZ());
+    char[][] sections = chunks.get(key);
+    if (sections == null) chunks.put(key, sections = new char[SECTIONS][]);
+    return sections;
+  }
+
+  /**
+   * Copy a section of the chunk, preferring a snapshot captured earlier if it has the section.
+   * Otherwise, only the section itself is read from the live world, not the whole chunk.
+   */
+  private char[] copySection(ChunkVector cv, int sectionY) {
+    Pending pending = captured.get(key(cv.getChunkX(), cv.getChunkZ()));
+    if (pending != null && pending.contains(sectionY)) {
+      return copySection(pending.snapshot, sectionY);
+    }
+
+    char[] section = new char[SECTION_VOLUME];
+    MATERIAL_UTILS.encodeSection(cv.getChunk(world), sectionY, section);
+    return section;
+  }
+
+  private void saveSections(ChunkVector cv, int minSection, int maxSection) {
+    char[][] sections = sections(cv);
+    for (int sectionY = minSection; sectionY <= maxSection; sectionY++) {
+      if (sections[sectionY] != null) continue;
+
+      sections[sectionY] = copySection(cv, sectionY);
+      sectionCount++;
+    }
+  }
+
+  private static char[] copySection(ChunkSnapshot snapshot, int sectionY) {
+    char[] section = new char[SECTION_VOLUME];
+    int minY = sectionY << 4;
+    for (int y = 0; y < 16; y++) {
+      for (int z = 0; z < 16; z++) {
+        for (int x = 0; x < 16; x++) {
+          section[index(x, y, z)] = (char) MATERIAL_UTILS.encode(snapshot, x, minY + y, z);
+        }
+      }
+    }
+    return section;
+  }
+
+  /**
+   * Queue the sections spanned by the region to be saved by later calls to {@link #capture(long,
+   * Executor)}. Sections that are already saved are skipped.
+   */
+  public void queueRegion(Region region) {
+    Bounds bounds = region.getBounds();
+    int minSection = bounds.getBlockMin().getBlockY() >> 4;
+    int maxSection = bounds.getBlockMaxInside().getBlockY() >> 4;
+
+    region.getChunkPositions().forEach(cv -> {
+      long key = key(cv.getChunkX(), cv.getChunkZ());
+      if (captured.containsKey(key)) {
+        // Too late to widen the capture, but the earlier snapshot is still the original world
+        saveSections(cv, minSection, maxSection);
+        return;
+      }
+
+      Pending pending = queued.get(key);
+      if (pending == null) {
+        queued.put(key, new Pending(cv, minSection, maxSection));
+      } else {
+        pending.minSection = Math.min(pending.minSection, minSection);
+        pending.maxSection = Math.max(pending.maxSection, maxSection);
+      }
+    });
+  }
+
+  /**
+   * Capture queued chunks until the time budget runs out, and install any sections that finished
+   * packing. Must be called on the main thread.
+   *
+   * @param budgetNanos time budget for capturing chunks
+   * @param executor the executor to pack captured chunks on
+   */
+  public void capture(long budgetNanos, Executor executor) {
+    Pending done;
+    while ((done = packed.poll()) != null) {
+      install(done);
+    }
+
+    long start = System.nanoTime();
+    while (!queued.isEmpty() && System.nanoTime() - start < budgetNanos) {
+      Pending pending = queued.removeFirst();
+      pending.snapshot = pending.chunk.getChunk(world).getChunkSnapshot(false, false, false);
+      captured.put(pending.key(), pending);
+
+      executor.execute(() -> {
+        pending.pack();
+        packed.add(pending);
+      });
+    }
+  }
+
+  private void install(Pending pending) {
+    char[][] sections = sections(pending.chunk);
+    for (int sectionY = pending.minSection; sectionY <= pending.maxSection; sectionY++) {
+      // Sections saved in the meantime were copied from the same snapshot, or an earlier one
+      if (sections[sectionY] != null) continue;
+      sections[sectionY] = pending.sections[sectionY - pending.minSection];
+      sectionCount++;
+    }
+
+    long key = pending.key();
+    if (captured.get(key) == pending) captured.remove(key);
+  }
+
+  /** Immediately save any queued or captured sections of the region. */
+  public void complete(Region region) {
+    if (queued.isEmpty() && captured.isEmpty()) return;
+
+    region.getChunkPositions().forEach(cv -> {
+      long key = key(cv.getChunkX(), cv.getChunkZ());
+      Pending pending = queued.remove(key);
+      if (pending == null) pending = captured.get(key);
+      if (pending == null) return;
+
+      saveSections(cv, pending.minSection, pending.maxSection);
+      captured.remove(key);
+    });
+  }
+
+  /** Number of chunks queued or captured, but not fully saved yet */
+  public int getPendingCount() {
+    return queued.size() + captured.size();
+  }
+
+  @Override
+  public Iterator<BlockData> iterator(Iterator<BlockVector> vectors) {
+    return new PackedBlockDataIterator(vectors);
+  }
+
+  @Override
+  public int getChunkCount() {
+    return chunks.size();
+  }
+
+  public int getSectionCount() {
+    return sectionCount;
+  }
+
+  @Override
+  public long getMemoryUsage() {
+    // Section arrays, plus the per-chunk array of section references
+    return (long) sectionCount * SECTION_VOLUME * Character.BYTES
+        + (long) chunks.size() * SECTIONS * Long.BYTES;
+  }
+
+  /** A chunk queued for capture, and its packed sections once done. */
+  private static class Pending {
+    private final ChunkVector chunk;
+    private int minSection;
+    private int maxSection;
+
+    // Set on the main thread before packing starts
+    private ChunkSnapshot snapshot;
+    // Set off-thread, read on the main thread after being handed over through the queue
+    private char[][] sections;
+
+    Pending(ChunkVector chunk, int minSection, int maxSection) {
+      this.chunk = chunk;
+      this.minSection = minSection;
+      this.maxSection = maxSection;
+    }
+
+    long key() {
+      return PackedSnapshotStore.key(chunk.getChunkX(), chunk.getChunkZ());
+    }
+
+    boolean contains(int sectionY) {
+      return sectionY >= minSection && sectionY <= maxSection;
+    }
+
+    void pack() {
+      char[][] sections = new char[maxSection - minSection + 1][];
+      for (int sectionY = minSection; sectionY <= maxSection; sectionY++) {
+        sections[sectionY - minSection] = copySection(snapshot, sectionY);
+      }
+      this.sections = sections;
+    }
+  }
+
+  /**
+   * Returns itself from {@link #next()}, updated to the next position, in the same fashion as the
+   * platform iterators over chunk snapshots. Positions that were not saved read from the world.
+   */
+  private class PackedBlockDataIterator implements Iterator<BlockData>, BlockData {
+    private final Iterator<BlockVector> vectors;
+
+    private BlockVector blockVector;
+    private BlockMaterialData material;
+
+    PackedBlockDataIterator(Iterator<BlockVector> vectors) {
+      this.vectors = vectors;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return vectors.hasNext();
+    }
+
+    @Override
+    public BlockData next() {
+      blockVector = vectors.next();
+      int x = blockVector.getBlockX(), y = blockVector.getBlockY(), z = blockVector.getBlockZ();
+
+      material = y < 0 || y >= 256 ? null : getMaterial(x, y, z);
+      if (material == null) material = MaterialData.block(world.getBlockAt(x, y, z));
+      return this;
+    }
+
+    @Override
+    public BlockVector getBlockVector() {
+      return blockVector;
+    }
+
+    @Override
+    public Material getItemType() {
+      return material.getItemType();
+    }
+
+    @Override
+    public MaterialMatcher toMatcher() {
+      return material.toMatcher();
+    }
+
+    @Override
+    public void applyTo(Block block, boolean update) {
+      material.applyTo(block, update);
+    }
+
+    @Override
+    public void applyTo(BlockState block) {
+      material.applyTo(block);
+    }
+
+    @Override
+    public void sendBlockChange(Player player, Location location) {
+      material.sendBlockChange(player, location);
+    }
+
+    @Override
+    public int encoded() {
+      return material.encoded();
+    }
+
+    @Override
+    public FallingBlock spawnFallingBlock(Location location) {
+      return material.spawnFallingBlock(location);
+    }
+  }
+}
@@ -1,11 +1,21 @@
 package tc.oc.pgm.snapshot;
 
+import com.google.common.collect.Range;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
 import org.bukkit.block.BlockState;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
-import org.bukkit.event.Listener;
 import org.bukkit.util.Vector;
 import org.jetbrains.annotations.Nullable;
+import tc.oc.pgm.api.PGM;
+import tc.oc.pgm.api.event.BlockTransformBatchEvent;
+import tc.oc.pgm.api.event.BlockTransformBatchEvent.BatchListener;
 import tc.oc.pgm.api.event.BlockTransformEvent;
 import tc.oc.pgm.api.match.Match;
 import tc.oc.pgm.api.match.MatchModule;
@@ -13,9 +23,11 @@ import tc.oc.pgm.api.match.MatchScope;
 import tc.oc.pgm.api.match.factory.MatchModuleFactory;
 import tc.oc.pgm.api.module.exception.ModuleLoadException;
 import tc.oc.pgm.events.ListenerScope;
+import tc.oc.pgm.util.TimeUtils;
 import tc.oc.pgm.util.chunk.ChunkVector;
 import tc.oc.pgm.util.material.BlockMaterialData;
-import tc.oc.pgm.util.material.MaterialData;
+import tc.oc.pgm.util.text.TextException;
+import tc.oc.pgm.util.text.TextParser;
 
 /**
  * Keeps a snapshot of the block state of the entire match world at build time, using a
@@ -26,7 +38,7 @@ import tc.oc.pgm.util.material.MaterialData;
  * {@link BlockTransformEvent}, without exception.
  */
 @ListenerScope(MatchScope.LOADED)
-public class SnapshotMatchModule implements MatchModule, Listener {
+public class SnapshotMatchModule implements MatchModule, BatchListener {
 
   public static class Factory implements MatchModuleFactory<SnapshotMatchModule> {
 
@@ -39,13 +51,105 @@ public class SnapshotMatchModule implements MatchModule, Listener {
   private final Match match;
   // Represents the world state before any changes have been applied to it
   private final WorldSnapshot snapshot;
+  private final boolean staged;
+  // Block changes spread over several ticks, run in order of submission
+  private final List<BlockJob<?>> jobs = new ArrayList<>();
+  private @Nullable Future<?> jobTask;
 
   private SnapshotMatchModule(Match match) {
     this.match = match;
     this.snapshot = new WorldSnapshot(match.getWorld());
+    // Changes to this world are saved by onBlockChange, or complete their region before writing
+    this.staged = PGM.get().getConfiguration().getExperimentAsBool("staged-world-snapshots", false)
+        && snapshot.enableStaging();
   }
 
-  public MaterialData getOriginalMaterial(int x, int y, int z) {
+  @Override
+  public void load() {
+    if (!staged) return;
+
+    long budget = TimeUnit.MILLISECONDS.toNanos(getCaptureBudget());
+    match
+        .getExecutor(MatchScope.LOADED)
+        .scheduleWithFixedDelay(
+            () -> snapshot.captureStaged(budget, PGM.get().getAsyncExecutor()),
+            0,
+            TimeUtils.TICK,
+            TimeUnit.MILLISECONDS);
+  }
+
+  private static int getCaptureBudget() {
+    try {
+      Map<String, Object> experiments = PGM.get().getConfiguration().getExperiments();
+
+      Object value = experiments.get("snapshot-capture-budget-ms");
+      if (value == null) return 5;
+
+      return TextParser.parseInteger(value.toString(), Range.closed(1, 50));
+    } catch (TextException t) {
+      return 5;
+    }
+  }
+
+  /**
+   * Run a job over the next ticks, until all of its blocks are changed. Jobs run one at a time, in
+   * order of submission, so a later job always writes over an earlier one.
+   *
+   * @param job the job to run
+   */
+  public void submitJob(BlockJob<?> job) {
+    jobs.add(job);
+    if (jobTask == null) {
+      jobTask = match
+          .getExecutor(MatchScope.LOADED)
+          .scheduleWithFixedDelay(this::runJobs, 0, TimeUtils.TICK, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  /**
+   * Finish every pending job right away, in order. Called before changing blocks immediately, so
+   * the change is not overwritten later by an older job.
+   */
+  public void completeJobs() {
+    while (!jobs.isEmpty()) {
+      BlockJob<?> job = jobs.get(0);
+      run(job, Long.MAX_VALUE);
+      jobs.remove(job);
+    }
+  }
+
+  private void runJobs() {
+    // Jobs that finish early leave the rest of the head's budget to the next ones
+    long start = System.nanoTime();
+    while (!jobs.isEmpty()) {
+      BlockJob<?> job = jobs.get(0);
+      long remaining = job.getBudget() - (System.nanoTime() - start);
+      if (remaining <= 0 || !run(job, remaining)) break;
+      // Completing a job may submit or complete other ones, so remove it by identity
+      jobs.remove(job);
+    }
+
+    if (jobs.isEmpty() && jobTask != null) {
+      jobTask.cancel(false);
+      jobTask = null;
+    }
+  }
+
+  /** @return whether the job is done, jobs that fail are dropped so they don't fail every tick */
+  private boolean run(BlockJob<?> job, long nanos) {
+    try {
+      return job.run(nanos);
+    } catch (RuntimeException e) {
+      match.getLogger().log(Level.SEVERE, "Exception running block job " + job.getName(), e);
+      return true;
+    }
+  }
+
+  public List<BlockJob<?>> getJobs() {
+    return Collections.unmodifiableList(jobs);
+  }
+
+  public BlockMaterialData getOriginalMaterial(int x, int y, int z) {
     return snapshot.getOriginalMaterial(x, y, z);
   }
 
@@ -63,6 +167,12 @@ public class SnapshotMatchModule implements MatchModule, Listener {
 
   // Listen on lowest priority so that the original block is available to other handlers of this
   // event
+  @EventHandler(priority = EventPriority.LOWEST)
+  public void onBlockChange(BlockTransformBatchEvent batch) {
+    if (batch.getWorld() != match.getWorld()) return;
+    batch.forEachUncancelled(this::onBlockChange);
+  }
+
   @EventHandler(priority = EventPriority.LOWEST, ignoreCancelled = true)
   public void onBlockChange(BlockTransformEvent event) {
     if (event.getWorld() != match.getWorld()) return;
@@ -0,0 +1,48 @@
+package tc.oc.pgm.snapshot;
+
+import java.util.Iterator;
+import org.bukkit.block.BlockState;
+import org.bukkit.util.BlockVector;
+import org.jetbrains.annotations.Nullable;
+import tc.oc.pgm.api.region.Region;
+import tc.oc.pgm.util.block.BlockData;
+import tc.oc.pgm.util.chunk.ChunkVector;
+import tc.oc.pgm.util.material.BlockMaterialData;
+
+/** Storage backend of a {@link WorldSnapshot}, holding the original blocks of saved areas. */
+interface SnapshotStore {
+
+  /**
+   * Get the saved material at the given position.
+   *
+   * @return the original material, or null if the position has not been saved
+   */
+  @Nullable
+  BlockMaterialData getMaterial(int x, int y, int z);
+
+  /**
+   * Save the current state of a chunk, if it has not been saved yet.
+   *
+   * @param cv the chunk to save
+   * @param oldState optional block state to write on the snapshot instead of the current one
+   */
+  void save(ChunkVector cv, @Nullable BlockState oldState);
+
+  /** Save the current state of every block in the region that has not been saved yet. */
+  default void saveRegion(Region region) {
+    region.getChunkPositions().forEach(cv -> this.save(cv, null));
+  }
+
+  /** Iterate the saved material of each of the given positions, which must have been saved. */
+  Iterator<BlockData> iterator(Iterator<BlockVector> vectors);
+
+  /** Number of chunks with saved data */
+  int getChunkCount();
+
+  /**
+   * Rough estimate of the heap used by saved data, in bytes.
+   *
+   * @return the estimate, or -1 if this store can't estimate it
+   */
+  long getMemoryUsage();
+}
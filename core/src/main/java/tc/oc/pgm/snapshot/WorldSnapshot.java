@@ -1,14 +1,12 @@
 package tc.oc.pgm.snapshot;
 
-import java.util.HashMap;
-import java.util.Map;
-import org.bukkit.ChunkSnapshot;
+import java.util.concurrent.Executor;
 import org.bukkit.World;
-import org.bukkit.block.Block;
 import org.bukkit.block.BlockState;
 import org.bukkit.util.BlockVector;
 import org.bukkit.util.Vector;
 import org.jetbrains.annotations.Nullable;
+import tc.oc.pgm.api.PGM;
 import tc.oc.pgm.api.region.Region;
 import tc.oc.pgm.util.block.BlockData;
 import tc.oc.pgm.util.chunk.ChunkVector;
@@ -17,11 +15,15 @@ import tc.oc.pgm.util.material.MaterialData;
 
 public class WorldSnapshot {
   private final World world;
-  private final Map<ChunkVector, ChunkSnapshot> chunkSnapshots = new HashMap<>();
+  private final SnapshotStore store;
   private final BudgetWorldEdit worldEdit;
+  private boolean staged;
 
   public WorldSnapshot(World world) {
     this.world = world;
+    this.store = PGM.get().getConfiguration().getExperimentAsBool("packed-world-snapshots", false)
+        ? new PackedSnapshotStore(world)
+        : new ChunkSnapshotStore(world);
     this.worldEdit = new BudgetWorldEdit(world, this);
   }
 
@@ -32,24 +34,16 @@ public class WorldSnapshot {
   public BlockMaterialData getOriginalMaterial(int x, int y, int z) {
     if (y < 0 || y >= 256) return MaterialData.AIR;
 
-    ChunkVector chunkVector = ChunkVector.ofBlock(x, y, z);
-    ChunkSnapshot chunkSnapshot = chunkSnapshots.get(chunkVector);
-    if (chunkSnapshot != null) {
-      return MaterialData.block(chunkSnapshot, chunkVector.worldToChunk(x, y, z));
-    } else {
-      return MaterialData.block(world.getBlockAt(x, y, z));
-    }
+    BlockMaterialData material = store.getMaterial(x, y, z);
+    return material != null ? material : MaterialData.block(world.getBlockAt(x, y, z));
   }
 
   public BlockState getOriginalBlock(int x, int y, int z) {
     BlockState state = world.getBlockAt(x, y, z).getState();
     if (y < 0 || y >= 256) return state;
 
-    ChunkVector chunkVector = ChunkVector.ofBlock(x, y, z);
-    ChunkSnapshot chunkSnapshot = chunkSnapshots.get(chunkVector);
-    if (chunkSnapshot != null) {
-      MaterialData.block(chunkSnapshot, chunkVector.worldToChunk(x, y, z)).applyTo(state);
-    }
+    BlockMaterialData material = store.getMaterial(x, y, z);
+    if (material != null) material.applyTo(state);
     return state;
   }
 
@@ -60,33 +54,53 @@ public class WorldSnapshot {
    * @param oldState optional block state to write on the snapshot
    */
   public void saveSnapshot(ChunkVector cv, @Nullable BlockState oldState) {
-    chunkSnapshots.computeIfAbsent(cv, vec -> {
-      if (oldState == null) return vec.getChunk(world).getChunkSnapshot(false, false, false);
-
-      // ChunkSnapshot will have the post-event state unless we revert
-      Block block = oldState.getBlock();
-
-      BlockMaterialData old = MaterialData.block(oldState);
-      BlockMaterialData current = MaterialData.block(block);
-      boolean isModified = !old.equals(current);
-      if (isModified) old.applyTo(block, false);
+    store.save(cv, oldState);
+  }
 
-      var snap = vec.getChunk(world).getChunkSnapshot(false, false, false);
+  public void saveRegion(Region region) {
+    if (staged) ((PackedSnapshotStore) store).queueRegion(region);
+    else store.saveRegion(region);
+  }
 
-      if (isModified) current.applyTo(block, false);
+  /**
+   * Make {@link #saveRegion(Region)} queue regions to be captured over time by {@link
+   * #captureStaged(long, Executor)}, rather than immediately. This is only safe when every change
+   * to the world is either saved through {@link #saveSnapshot(ChunkVector, BlockState)}, or
+   * preceded by a call to {@link #complete(Region)}.
+   *
+   * @return whether staged saving is supported by this snapshot
+   */
+  boolean enableStaging() {
+    return staged = isPacked();
+  }
 
-      return snap;
-    });
+  /**
+   * Finish saving any part of the region that is still queued. Must be called before changing
+   * blocks of the region without firing events, since those changes are not saved otherwise.
+   *
+   * @param region the region about to be changed
+   */
+  public void complete(Region region) {
+    if (staged) ((PackedSnapshotStore) store).complete(region);
   }
 
-  public void saveRegion(Region region) {
-    region.getChunkPositions().forEach(cv -> this.saveSnapshot(cv, null));
+  void captureStaged(long budgetNanos, Executor executor) {
+    if (staged) ((PackedSnapshotStore) store).capture(budgetNanos, executor);
   }
 
   public void placeBlocks(Region region, BlockVector offset, boolean update) {
     worldEdit.placeBlocks(region, offset, update);
   }
 
+  public BlockJob<BlockData> placeJob(
+      Region region,
+      BlockVector offset,
+      boolean update,
+      @Nullable Runnable onComplete,
+      long budget) {
+    return worldEdit.placeJob(region, offset, update, onComplete, budget);
+  }
+
   public void removeBlocks(Region region, BlockVector offset, boolean update) {
     worldEdit.removeBlocks(region, offset, update);
   }
@@ -97,6 +111,32 @@ public class WorldSnapshot {
    * @param region the region to get block states from
    */
   public Iterable<BlockData> getMaterials(Region region) {
-    return () -> MaterialData.iterator(chunkSnapshots, region.getBlockVectorIterator());
+    // The world is about to be changed without firing events, so finish saving the region first
+    complete(region);
+    return () -> store.iterator(region.getBlockVectorIterator());
+  }
+
+  /** Number of chunks with saved data in this snapshot */
+  public int getChunkCount() {
+    return store.getChunkCount();
+  }
+
+  /**
+   * Rough estimate of the heap used by this snapshot, in bytes.
+   *
+   * @return the estimate, or -1 if the snapshot backend can't estimate it
+   */
+  public long getMemoryUsage() {
+    return store.getMemoryUsage();
+  }
+
+  /** Number of chunks queued to be saved, but not fully saved yet */
+  public int getPendingCount() {
+    return staged ? ((PackedSnapshotStore) store).getPendingCount() : 0;
+  }
+
+  /** If this snapshot stores packed sections rather than full chunk snapshots */
+  public boolean isPacked() {
+    return store instanceof PackedSnapshotStore;
   }
 }
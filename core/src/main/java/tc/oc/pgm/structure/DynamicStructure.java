@@ -53,6 +53,7 @@ public class DynamicStructure implements Feature<DynamicStructureDefinition> {
     if (!placed) return;
     placed = false;
 
+    structure.prepareWrite(region);
     snapshot.placeBlocks(region, new BlockVector(), definition.shouldUpdate());
   }
 }
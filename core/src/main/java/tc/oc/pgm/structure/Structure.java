@@ -1,21 +1,27 @@
 package tc.oc.pgm.structure;
 
+import java.time.Duration;
 import org.bukkit.Material;
 import org.bukkit.util.BlockVector;
+import org.jetbrains.annotations.Nullable;
 import tc.oc.pgm.api.feature.Feature;
 import tc.oc.pgm.api.match.Match;
 import tc.oc.pgm.api.region.Region;
 import tc.oc.pgm.regions.FiniteBlockRegion;
+import tc.oc.pgm.regions.TranslatedRegion;
+import tc.oc.pgm.snapshot.SnapshotMatchModule;
 import tc.oc.pgm.snapshot.WorldSnapshot;
 
 public class Structure implements Feature<StructureDefinition> {
 
   private final StructureDefinition definition;
+  private final Match match;
   private final WorldSnapshot snapshot;
   private final Region region;
 
   public Structure(StructureDefinition definition, Match match, WorldSnapshot snapshot) {
     this.definition = definition;
+    this.match = match;
     this.snapshot = snapshot;
 
     if (definition.includeAir()) this.region = definition.getRegion();
@@ -27,7 +33,10 @@ public class Structure implements Feature<StructureDefinition> {
           match.getMap().getProto());
 
     snapshot.saveRegion(region);
-    if (definition.clearSource()) snapshot.removeBlocks(region, new BlockVector(), false);
+    if (definition.clearSource()) {
+      prepareWrite(region);
+      snapshot.removeBlocks(region, new BlockVector(), false);
+    }
   }
 
   @Override
@@ -45,11 +54,38 @@ public class Structure implements Feature<StructureDefinition> {
   }
 
   public void place(BlockVector offset, boolean update) {
+    prepareWrite(new TranslatedRegion(region, offset));
     snapshot.placeBlocks(region, offset, update);
   }
 
+  /**
+   * Prepare to change the blocks of a region right away, without events. Block changes in progress
+   * are finished so they don't overwrite it, and the original blocks of the region are saved.
+   */
+  void prepareWrite(Region target) {
+    SnapshotMatchModule smm = match.needModule(SnapshotMatchModule.class);
+    smm.completeJobs();
+    smm.getOriginalSnapshot().complete(target);
+  }
+
   public void placeAbsolute(BlockVector vector, boolean update) {
     vector.subtract(getRegion().getBounds().getBlockMin());
     place(vector, update);
   }
+
+  /**
+   * Place the structure over several ticks, spending at most the budget on each tick.
+   *
+   * @param vector the position to place the structure at
+   * @param update whether to apply physics
+   * @param budget the time to spend on each tick
+   * @param onComplete run once the whole structure is placed
+   */
+  public void placeAbsolute(
+      BlockVector vector, boolean update, Duration budget, @Nullable Runnable onComplete) {
+    vector.subtract(getRegion().getBounds().getBlockMin());
+    SnapshotMatchModule smm = match.needModule(SnapshotMatchModule.class);
+    smm.getOriginalSnapshot().complete(new TranslatedRegion(region, vector));
+    smm.submitJob(snapshot.placeJob(region, vector, update, onComplete, budget.toNanos()));
+  }
 }
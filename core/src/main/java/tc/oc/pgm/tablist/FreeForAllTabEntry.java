@@ -19,6 +19,12 @@ public class FreeForAllTabEntry extends DynamicTabEntry {
     this.match = match;
   }
 
+  @Override
+  public Object getContentKey(TabView view) {
+    // The same for every view
+    return Boolean.TRUE;
+  }
+
   @Override
   public Component getContent(TabView view) {
     return text()
@@ -40,6 +40,7 @@ import tc.oc.pgm.util.bukkit.ViaUtils;
 import tc.oc.pgm.util.collection.DefaultMapAdapter;
 import tc.oc.pgm.util.concurrent.RateLimiter;
 import tc.oc.pgm.util.named.NameStyle;
+import tc.oc.pgm.util.player.PlayerComponent;
 import tc.oc.pgm.util.tablist.DynamicTabEntry;
 import tc.oc.pgm.util.tablist.PlayerTabEntry;
 import tc.oc.pgm.util.tablist.TabEntry;
@@ -127,7 +128,8 @@ public class MatchTabManager extends TabManager implements Listener {
       PlayerTabEntry.setShowRealPing(false);
     }
 
-    PlayerTabEntry.setPlayerComponent(pl -> player(pl, NameStyle.TAB));
+    PlayerTabEntry.setPlayerComponent(
+        pl -> player(pl, NameStyle.TAB), PlayerComponent::viewerKey);
   }
 
   protected static TabEntry[] headerFactory(Match match) {
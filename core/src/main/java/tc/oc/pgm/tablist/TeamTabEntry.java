@@ -19,6 +19,12 @@ public class TeamTabEntry extends DynamicTabEntry {
     this.team = team;
   }
 
+  @Override
+  public Object getContentKey(TabView view) {
+    // The same for every view
+    return Boolean.TRUE;
+  }
+
   @Override
   public Component getContent(TabView view) {
     return text()
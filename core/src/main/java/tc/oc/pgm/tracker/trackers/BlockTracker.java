@@ -2,11 +2,11 @@ package tc.oc.pgm.tracker.trackers;
 
 import static tc.oc.pgm.util.Assert.assertNotNull;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.logging.Logger;
 import org.bukkit.Material;
 import org.bukkit.block.Block;
@@ -14,11 +14,12 @@ import org.bukkit.block.BlockFace;
 import org.bukkit.block.BlockState;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
-import org.bukkit.event.Listener;
 import org.bukkit.event.block.BlockPistonEvent;
 import org.bukkit.event.block.BlockPistonExtendEvent;
 import org.bukkit.event.block.BlockPistonRetractEvent;
 import org.jetbrains.annotations.Nullable;
+import tc.oc.pgm.api.event.BlockTransformBatchEvent;
+import tc.oc.pgm.api.event.BlockTransformBatchEvent.BatchListener;
 import tc.oc.pgm.api.event.BlockTransformEvent;
 import tc.oc.pgm.api.match.Match;
 import tc.oc.pgm.api.player.ParticipantState;
@@ -27,20 +28,81 @@ import tc.oc.pgm.api.tracker.info.PhysicalInfo;
 import tc.oc.pgm.api.tracker.info.TrackerInfo;
 import tc.oc.pgm.tracker.info.BlockInfo;
 import tc.oc.pgm.util.ClassLogger;
+import tc.oc.pgm.util.block.BlockVectors;
 
-/** Tracks the ownership of {@link Block}s and resolves damage caused by them */
-public class BlockTracker implements Listener {
+/**
+ * Tracks the ownership of {@link Block}s and resolves damage caused by them.
+ *
+ * <p>Blocks are stored by their packed coordinates, in one map per chunk.
+ */
+public class BlockTracker implements BatchListener {
+
+  // Rough size of a tracked block: its map slot, boxed in a table at 3/4 load, plus its entry
+  private static final int BLOCK_BYTES = 48;
+  // Rough size of an empty chunk map, and its slot in the map of chunks
+  private static final int CHUNK_BYTES = 160;
 
   private final Logger logger;
-  private final Map<Block, TrackerInfo> blocks = new HashMap<>();
-  private final Map<Block, Material> materials = new HashMap<>();
+  private final Match match;
+  private final Long2ObjectMap<Long2ObjectMap<Entry>> chunks = new Long2ObjectOpenHashMap<>();
+  private int blockCount;
 
   public BlockTracker(Match match) {
     this.logger = ClassLogger.get(match.getLogger(), getClass());
+    this.match = match;
+  }
+
+  private static final class Entry {
+    private final TrackerInfo info;
+    private final @Nullable Material material;
+
+    private Entry(TrackerInfo info, @Nullable Material material) {
+      this.info = info;
+      this.material = material;
+    }
+  }
+
+  private static long chunkKey(int chunkX, int chunkZ) {
+    return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+  }
+
+  private @Nullable Entry getEntry(Block block) {
+    if (block.getWorld() != match.getWorld()) return null;
+    Long2ObjectMap<Entry> chunk = chunks.get(chunkKey(block.getX() >> 4, block.getZ() >> 4));
+    return chunk == null ? null : chunk.get(BlockVectors.encodePos(block));
+  }
+
+  private void putEntry(Block block, Entry entry) {
+    if (block.getWorld() != match.getWorld()) return;
+    Long2ObjectMap<Entry> chunk = chunks.get(chunkKey(block.getX() >> 4, block.getZ() >> 4));
+    if (chunk == null) {
+      chunks.put(chunkKey(block.getX() >> 4, block.getZ() >> 4), chunk = newChunk());
+    }
+    if (chunk.put(BlockVectors.encodePos(block), entry) == null) blockCount++;
+  }
+
+  private @Nullable Entry removeEntry(Block block) {
+    if (block.getWorld() != match.getWorld()) return null;
+    long key = chunkKey(block.getX() >> 4, block.getZ() >> 4);
+    Long2ObjectMap<Entry> chunk = chunks.get(key);
+    if (chunk == null) return null;
+
+    Entry entry = chunk.remove(BlockVectors.encodePos(block));
+    if (entry != null) {
+      blockCount--;
+      if (chunk.isEmpty()) chunks.remove(key);
+    }
+    return entry;
+  }
+
+  private static Long2ObjectMap<Entry> newChunk() {
+    // Most chunks only have a few tracked blocks
+    return new Long2ObjectOpenHashMap<>(4);
   }
 
   public PhysicalInfo resolveBlock(Block block) {
-    TrackerInfo info = blocks.get(block);
+    Entry entry = getEntry(block);
+    TrackerInfo info = entry == null ? null : entry.info;
     if (info instanceof PhysicalInfo) {
       return (PhysicalInfo) info;
     } else if (info instanceof OwnerInfo) {
@@ -51,11 +113,12 @@ public class BlockTracker implements Listener {
   }
 
   public @Nullable TrackerInfo resolveInfo(Block block) {
-    return blocks.get(block);
+    Entry entry = getEntry(block);
+    return entry == null ? null : entry.info;
   }
 
   public @Nullable <T extends TrackerInfo> T resolveInfo(Block block, Class<T> infoType) {
-    TrackerInfo info = blocks.get(block);
+    TrackerInfo info = resolveInfo(block);
     return infoType.isInstance(info) ? infoType.cast(info) : null;
   }
 
@@ -68,12 +131,7 @@ public class BlockTracker implements Listener {
       Block block, @Nullable Material material, @Nullable TrackerInfo info) {
     assertNotNull(block);
     if (info != null) {
-      blocks.put(block, info);
-      if (material != null) {
-        materials.put(block, material);
-      } else {
-        materials.remove(block);
-      }
+      putEntry(block, new Entry(info, material));
       logger.fine("Track block=" + block + " world=" + material + " info=" + info);
     } else {
       clearBlock(block);
@@ -87,64 +145,63 @@ public class BlockTracker implements Listener {
 
   public void clearBlock(Block block) {
     assertNotNull(block);
-    blocks.remove(block);
-    materials.remove(block);
+    removeEntry(block);
     logger.fine("Clear block=" + block);
   }
 
+  /** @return The number of tracked blocks. */
+  public int getBlockCount() {
+    return blockCount;
+  }
+
+  /** @return The number of chunks with tracked blocks. */
+  public int getChunkCount() {
+    return chunks.size();
+  }
+
+  /** @return A rough estimate of the memory used to track blocks, in bytes. */
+  public long getMemoryUsage() {
+    return (long) blockCount * BLOCK_BYTES + (long) chunks.size() * CHUNK_BYTES;
+  }
+
   boolean isPlaced(BlockState state) {
     // If block was registered with a specific world, check that the new state
     // has the same world, otherwise assume the block is still placed.
-    Material material = materials.get(state.getBlock());
+    Entry entry = getEntry(state.getBlock());
+    Material material = entry == null ? null : entry.material;
     return material == null || material == state.getType();
   }
 
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onTransform(BlockTransformBatchEvent batch) {
+    batch.forEachUncancelled(this::onTransform);
+  }
+
   @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
   public void onTransform(BlockTransformEvent event) {
     if (event.getCause() instanceof BlockPistonEvent) return;
 
     Block block = event.getOldState().getBlock();
-    TrackerInfo info = blocks.get(block);
-    if (info != null && !isPlaced(event.getNewState())) {
+    if (getEntry(block) != null && !isPlaced(event.getNewState())) {
       clearBlock(block);
     }
   }
 
   private void handleMove(Collection<Block> blocks, BlockFace direction) {
-    Map<Block, TrackerInfo> keepInfo = new HashMap<>();
-    Map<Block, Material> keepMaterials = new HashMap<>();
-    List<Block> remove = new ArrayList<>();
-
+    // Take every moved entry first, since blocks can move where another one was
+    List<Block> targets = new ArrayList<>();
+    List<Entry> entries = new ArrayList<>();
     for (Block block : blocks) {
-      TrackerInfo info = this.blocks.get(block);
-      if (info != null) {
-        remove.add(block);
-        keepInfo.put(block.getRelative(direction), info);
-
-        Material material = materials.get(block);
-        if (material != null) {
-          keepMaterials.put(block, material);
-        }
+      Entry entry = removeEntry(block);
+      if (entry != null) {
+        targets.add(block.getRelative(direction));
+        entries.add(entry);
       }
     }
 
-    for (Block block : remove) {
-      TrackerInfo info = keepInfo.remove(block);
-      if (info != null) {
-        this.blocks.put(block, info);
-
-        Material material = keepMaterials.get(block);
-        if (material != null) {
-          this.materials.put(block, material);
-        }
-      } else {
-        this.blocks.remove(block);
-        this.materials.remove(block);
-      }
+    for (int i = 0; i < targets.size(); i++) {
+      putEntry(targets.get(i), entries.get(i));
     }
-
-    this.blocks.putAll(keepInfo);
-    this.materials.putAll(keepMaterials);
   }
 
   @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
@@ -1,7 +1,7 @@
 package tc.oc.pgm.tracker.trackers;
 
-import java.util.HashMap;
-import java.util.Map;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import java.util.concurrent.TimeUnit;
 import org.bukkit.Location;
 import org.bukkit.block.Block;
@@ -21,6 +21,7 @@ import tc.oc.pgm.tracker.info.ExplosionInfo;
 import tc.oc.pgm.tracker.info.PlayerInfo;
 import tc.oc.pgm.tracker.info.SpleefInfo;
 import tc.oc.pgm.util.TimeUtils;
+import tc.oc.pgm.util.block.BlockVectors;
 import tc.oc.pgm.util.event.player.PlayerOnGroundEvent;
 import tc.oc.pgm.util.material.Materials;
 
@@ -40,7 +41,7 @@ public class SpleefTracker implements Listener {
 
   private final TrackerMatchModule tracker;
   private final Match match;
-  private final Map<Vector, SpleefInfo> brokenBlocks = new HashMap<>();
+  private final Long2ObjectMap<SpleefInfo> brokenBlocks = new Long2ObjectOpenHashMap<>();
 
   public SpleefTracker(TrackerMatchModule tracker) {
     this.tracker = tracker;
@@ -70,7 +71,7 @@ public class SpleefTracker implements Listener {
     }
 
     final SpleefInfo info = new SpleefInfo(breaker, match.getTick());
-    Vector pos = block.getLocation().toVector();
+    long pos = BlockVectors.encodePos(block);
     brokenBlocks.put(pos, info);
 
     // Only remove the BrokenBlock if it's the same one we added. It may have been replaced since
@@ -91,7 +92,7 @@ public class SpleefTracker implements Listener {
 
     Vector pos = this.lastBlockBrokenUnderPlayer(player);
     if (pos != null) {
-      SpleefInfo info = brokenBlocks.get(pos);
+      SpleefInfo info = brokenBlocks.get(BlockVectors.encodePos(pos.toBlockVector()));
       if (match.getTick().tick - info.getTime().tick <= MAX_SPLEEF_TICKS) {
         match.callEvent(new PlayerSpleefEvent(player, pos, info));
       }
@@ -110,11 +111,11 @@ public class SpleefTracker implements Listener {
     int z2 = (int) Math.floor(playerLocation.getZ() + BLOCK_OFFSET);
 
     long latestTick = Long.MIN_VALUE;
-    Vector latestPos = null;
+    long latestPos = BlockVectors.ENCODED_NULL_POS;
 
     for (int x = x1; x <= x2; ++x) {
       for (int z = z1; z <= z2; ++z) {
-        Vector pos = new Vector(x, y, z);
+        long pos = BlockVectors.encodePos(x, y, z);
         SpleefInfo info = this.brokenBlocks.get(pos);
         if (info != null) {
           long tick = info.getTime().tick;
@@ -126,6 +127,6 @@ public class SpleefTracker implements Listener {
       }
     }
 
-    return latestPos;
+    return latestPos == BlockVectors.ENCODED_NULL_POS ? null : BlockVectors.decodePos(latestPos);
   }
 }
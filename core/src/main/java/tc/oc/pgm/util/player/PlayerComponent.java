@@ -78,6 +78,22 @@ public final class PlayerComponent implements RenderableComponent {
     return new PlayerComponent(player.getBukkit(), new PlayerData(player, style), Style.empty());
   }
 
+  /**
+   * Get a key that is equal for the viewers that see the same rendered name of a player.
+   *
+   * @param player The player being rendered.
+   * @param viewer The viewer of the name.
+   * @return The relationship of the viewer to the player.
+   */
+  public static Object viewerKey(@Nullable Player player, CommandSender viewer) {
+    return new PlayerRelationship(player, viewer);
+  }
+
+  @Override
+  public Object renderKey(CommandSender viewer) {
+    return viewerKey(player, viewer);
+  }
+
   public Component render(CommandSender viewer) {
     // Render using a specialized render, which caches results
     Component rendered = RENDERER.render(data, new PlayerRelationship(player, viewer));
@@ -8,9 +8,15 @@ import static net.kyori.adventure.text.event.HoverEvent.showText;
 
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
 import com.google.common.cache.LoadingCache;
+import com.google.common.cache.RemovalNotification;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.TextComponent;
@@ -19,6 +25,7 @@ import net.kyori.adventure.text.format.Style;
 import net.kyori.adventure.text.format.TextColor;
 import net.kyori.adventure.text.format.TextDecoration;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import tc.oc.pgm.api.PGM;
 import tc.oc.pgm.util.named.NameDecorationProvider;
 import tc.oc.pgm.util.named.NameStyle;
@@ -31,15 +38,22 @@ public class PlayerRenderer {
       Style.style(TextDecoration.ITALIC).decoration(TextDecoration.STRIKETHROUGH, false);
 
   private final LoadingCache<PlayerCacheKey, Component> nameCache;
+  // Cached names showing the flair of each player, so they can be invalidated without a scan
+  private final Map<UUID, Set<PlayerCacheKey>> flairKeys = new ConcurrentHashMap<>();
 
   protected PlayerRenderer() {
     this.nameCache =
         CacheBuilder.newBuilder()
             .expireAfterAccess(15, TimeUnit.MINUTES)
+            .recordStats()
+            .removalListener(
+                (RemovalNotification<PlayerCacheKey, Component> notification) ->
+                    unindex(notification.getKey()))
             .build(
                 new CacheLoader<PlayerCacheKey, Component>() {
                   @Override
                   public Component load(@NotNull PlayerCacheKey key) {
+                    index(key);
                     return render(key);
                   }
                 });
@@ -50,16 +64,46 @@ public class PlayerRenderer {
   }
 
   public void decorationChanged(UUID uuid) {
-    nameCache
-        .asMap()
-        .entrySet()
-        .removeIf(
-            entry -> {
-              PlayerCacheKey key = entry.getKey();
-              return key.relationship.reveal
-                  && key.data.style.has(NameStyle.Flag.FLAIR)
-                  && uuid.equals(key.data.uuid);
-            });
+    Set<PlayerCacheKey> keys = flairKeys.remove(uuid);
+    if (keys != null) nameCache.invalidateAll(keys);
+  }
+
+  /** @return statistics of the name cache, its load time being the time spent rendering */
+  public CacheStats getStats() {
+    return nameCache.stats();
+  }
+
+  public long getCacheSize() {
+    return nameCache.size();
+  }
+
+  /** @return the number of players with cached names showing their flair */
+  public int getIndexedPlayers() {
+    return flairKeys.size();
+  }
+
+  private static boolean showsFlair(PlayerCacheKey key) {
+    return key.data.uuid != null
+        && key.relationship.reveal
+        && key.data.style.has(NameStyle.Flag.FLAIR);
+  }
+
+  private void index(PlayerCacheKey key) {
+    if (!showsFlair(key)) return;
+    // Sets are only modified inside compute calls, which are atomic for each player
+    flairKeys.compute(key.data.uuid, (uuid, keys) -> {
+      if (keys == null) keys = new HashSet<>();
+      keys.add(key);
+      return keys;
+    });
+  }
+
+  private void unindex(@Nullable PlayerCacheKey key) {
+    if (key == null || !showsFlair(key)) return;
+    flairKeys.computeIfPresent(key.data.uuid, (uuid, keys) -> {
+      keys.remove(key);
+      return keys.isEmpty() ? null : keys;
+    });
   }
 
   private Component render(PlayerCacheKey key) {
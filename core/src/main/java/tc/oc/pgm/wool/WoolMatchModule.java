@@ -14,7 +14,6 @@ import org.bukkit.Material;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
-import org.bukkit.event.Listener;
 import org.bukkit.event.block.BlockPlaceEvent;
 import org.bukkit.event.inventory.InventoryMoveItemEvent;
 import org.bukkit.event.inventory.InventoryOpenEvent;
@@ -25,6 +24,8 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.Recipe;
 import org.bukkit.util.Vector;
 import tc.oc.pgm.api.PGM;
+import tc.oc.pgm.api.event.BlockTransformBatchEvent;
+import tc.oc.pgm.api.event.BlockTransformBatchEvent.BatchListener;
 import tc.oc.pgm.api.event.BlockTransformEvent;
 import tc.oc.pgm.api.match.Match;
 import tc.oc.pgm.api.match.MatchModule;
@@ -40,7 +41,7 @@ import tc.oc.pgm.teams.Team;
 import tc.oc.pgm.util.block.BlockVectors;
 
 @ListenerScope(MatchScope.RUNNING)
-public class WoolMatchModule implements MatchModule, Listener {
+public class WoolMatchModule implements MatchModule, BatchListener {
 
   private final Match match;
   private final Multimap<Team, MonumentWool> wools;
@@ -160,6 +161,12 @@ public class WoolMatchModule implements MatchModule, Listener {
     }
   }
 
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void placementCheck(BlockTransformBatchEvent batch) {
+    if (batch.getWorld() != this.match.getWorld()) return;
+    batch.getEvents().forEach(this::placementCheck);
+  }
+
   @EventHandler(priority = EventPriority.MONITOR)
   public void placementCheck(final BlockTransformEvent event) {
     if (this.match.getWorld() != event.getWorld()) return;
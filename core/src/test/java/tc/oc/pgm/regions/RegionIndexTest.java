@@ -0,0 +1,46 @@
+package tc.oc.pgm.regions;
+
+import java.util.List;
+import org.bukkit.util.Vector;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tc.oc.pgm.api.region.Region;
+
+public final class RegionIndexTest {
+
+  private static final Region LANE = new CuboidRegion(new Vector(0, 0, 0), new Vector(16, 256, 16));
+  private static final Region FAR =
+      new CuboidRegion(new Vector(160, 0, 160), new Vector(176, 256, 176));
+
+  @Test
+  public void testLaneRegions() {
+    // Lanes apply to the region itself, and to its negative
+    Region outside = new NegativeRegion(LANE);
+    RegionIndex<Region> index = new RegionIndex<>(List.of(LANE, outside, FAR), r -> r);
+
+    Assertions.assertEquals(List.of(LANE, outside), index.get(8, 8));
+    Assertions.assertEquals(List.of(outside, FAR), index.get(168, 168));
+    Assertions.assertEquals(List.of(outside), index.get(-100, -100));
+  }
+
+  @Test
+  public void testPlayableRegion() {
+    // Playable regions are negated, so they apply everywhere outside the region
+    Region playable = new NegativeRegion(LANE);
+    RegionIndex<Region> index = new RegionIndex<>(List.of(FAR, playable), r -> r);
+
+    Assertions.assertEquals(List.of(playable), index.get(8, 8));
+    Assertions.assertEquals(List.of(FAR, playable), index.get(168, 168));
+    Assertions.assertEquals(List.of(playable), index.get(1000, -1000));
+  }
+
+  @Test
+  public void testIntersectionWithNegative() {
+    // Block bounded, but its bounds can't be computed
+    Region intersect = new Intersect(FAR, new NegativeRegion(LANE));
+    RegionIndex<Region> index = new RegionIndex<>(List.of(LANE, intersect), r -> r);
+
+    Assertions.assertEquals(List.of(LANE, intersect), index.get(8, 8));
+    Assertions.assertEquals(List.of(intersect), index.get(168, 168));
+  }
+}
@@ -0,0 +1,50 @@
+package tc.oc.pgm.platform.modern.impl;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import tc.oc.pgm.util.block.BlockWriter;
+import tc.oc.pgm.util.material.BlockMaterialData;
+
+/**
+ * Writes blocks straight into their chunk, skipping the neighbour updates and block captures of
+ * the level. Changes are sent through the chunk holders, which batch them into one packet per
+ * section, and relit together by the light engine.
+ */
+class ModernBlockWriter implements BlockWriter {
+
+  private final ServerLevel level;
+  private final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+  private LevelChunk chunk;
+
+  ModernBlockWriter(ServerLevel level) {
+    this.level = level;
+  }
+
+  @Override
+  public void set(int x, int y, int z, BlockMaterialData material) {
+    if (level.isOutsideBuildHeight(y)) return;
+
+    // Materials are encoded as their block state id
+    BlockState state = Block.BLOCK_STATE_REGISTRY.byId(material.encoded());
+    if (state == null) return;
+
+    if (chunk == null || chunk.getPos().x != x >> 4 || chunk.getPos().z != z >> 4) {
+      chunk = level.getChunk(x >> 4, z >> 4);
+    }
+
+    pos.set(x, y, z);
+    // Returns null when the block did not change
+    if (chunk.setBlockState(pos, state, false, false) != null) {
+      level.getChunkSource().blockChanged(pos);
+    }
+  }
+
+  @Override
+  public void flush() {
+    // Light updates are queued by the chunk, and processed at once at the end of the tick
+    chunk = null;
+  }
+}
@@ -69,6 +69,7 @@ import org.bukkit.plugin.Plugin;
 import org.bukkit.util.Vector;
 import tc.oc.pgm.platform.modern.PgmBootstrap;
 import tc.oc.pgm.platform.modern.material.ModernBlockMaterialData;
+import tc.oc.pgm.util.block.BlockWriter;
 import tc.oc.pgm.util.bukkit.BukkitUtils;
 import tc.oc.pgm.util.chunk.NullChunkGenerator;
 import tc.oc.pgm.util.material.BlockMaterialData;
@@ -162,6 +163,11 @@ public class ModernNMSHacks implements NMSHacks {
     return blocks;
   }
 
+  @Override
+  public BlockWriter createBlockWriter(World world) {
+    return new ModernBlockWriter(((CraftWorld) world).getHandle());
+  }
+
   @Override
   public void setSkullMetaOwner(SkullMeta meta, String name, UUID uuid, Skin skin) {
     var profile = Bukkit.createProfile(uuid, name);
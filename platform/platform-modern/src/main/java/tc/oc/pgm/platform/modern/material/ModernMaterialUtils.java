@@ -6,11 +6,15 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.chunk.status.ChunkStatus;
 import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
 import org.bukkit.ChunkSnapshot;
 import org.bukkit.Material;
 import org.bukkit.block.BlockState;
 import org.bukkit.block.data.BlockData;
+import org.bukkit.craftbukkit.CraftChunk;
 import org.bukkit.craftbukkit.util.CraftMagicNumbers;
 import org.bukkit.entity.GlowItemFrame;
 import org.bukkit.entity.Hanging;
@@ -85,6 +89,27 @@ public class ModernMaterialUtils implements MaterialUtils {
     return ModernEncodeUtil.decode(encoded);
   }
 
+  @Override
+  public int encode(ChunkSnapshot chunk, int x, int y, int z) {
+    return ModernEncodeUtil.encode(chunk.getBlockData(x, y, z));
+  }
+
+  @Override
+  public void encodeSection(Chunk chunk, int sectionY, char[] section) {
+    var nms = ((CraftChunk) chunk).getHandle(ChunkStatus.FULL);
+    var states = nms.getSection(nms.getSectionIndexFromSectionY(sectionY)).getStates();
+
+    // Iteration order is relevant, as indexes are packed as x | z << 4 | y << 8
+    int i = 0;
+    for (int y = 0; y < 16; y++) {
+      for (int z = 0; z < 16; z++) {
+        for (int x = 0; x < 16; x++) {
+          section[i++] = (char) Block.BLOCK_STATE_REGISTRY.getId(states.get(x, y, z));
+        }
+      }
+    }
+  }
+
   @Override
   public Iterator<tc.oc.pgm.util.block.BlockData> iterator(
       Map<ChunkVector, ChunkSnapshot> chunks, Iterator<BlockVector> vectors) {
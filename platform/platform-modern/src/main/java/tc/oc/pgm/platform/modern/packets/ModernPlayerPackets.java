@@ -6,12 +6,15 @@ import static tc.oc.pgm.util.platform.Supports.Variant.PAPER;
 import com.mojang.datafixers.util.Pair;
 import java.util.List;
 import java.util.Optional;
+import net.kyori.adventure.platform.bukkit.MinecraftComponentSerializer;
+import net.kyori.adventure.text.Component;
 import net.minecraft.core.BlockPos;
 import net.minecraft.network.protocol.Packet;
 import net.minecraft.network.protocol.game.ClientboundSetBorderWarningDistancePacket;
 import net.minecraft.network.protocol.game.ClientboundSetEntityDataPacket;
 import net.minecraft.network.protocol.game.ClientboundSetEntityMotionPacket;
 import net.minecraft.network.protocol.game.ClientboundSetEquipmentPacket;
+import net.minecraft.network.protocol.game.ClientboundSystemChatPacket;
 import net.minecraft.network.protocol.game.ClientboundTakeItemEntityPacket;
 import net.minecraft.network.syncher.EntityDataSerializers;
 import net.minecraft.network.syncher.SynchedEntityData;
@@ -35,6 +38,8 @@ public class ModernPlayerPackets implements PlayerPackets, PacketSender {
 
   private static final int POSE_FIELD = 6;
   private static final int BED_LOCATION = 14;
+  private static final MinecraftComponentSerializer SERIALIZER =
+      MinecraftComponentSerializer.get();
 
   @Override
   public void playDeathAnimation(Player player) {
@@ -89,4 +94,11 @@ public class ModernPlayerPackets implements PlayerPackets, PacketSender {
     handle.hurtMarked = false;
     handle.connection.sendPacket(new ClientboundSetEntityMotionPacket(handle));
   }
+
+  @Override
+  @SuppressWarnings("UnstableApiUsage")
+  public tc.oc.pgm.util.nms.packets.Packet chatMessage(Component message) {
+    var nmsMessage = (net.minecraft.network.chat.Component) SERIALIZER.serialize(message);
+    return new ModernPacket<>(new ClientboundSystemChatPacket(nmsMessage, false));
+  }
 }
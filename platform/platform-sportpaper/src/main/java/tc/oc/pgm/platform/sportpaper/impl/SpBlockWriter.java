@@ -0,0 +1,86 @@
+package tc.oc.pgm.platform.sportpaper.impl;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import net.minecraft.server.v1_8_R3.Block;
+import net.minecraft.server.v1_8_R3.BlockPosition;
+import net.minecraft.server.v1_8_R3.Blocks;
+import net.minecraft.server.v1_8_R3.Chunk;
+import net.minecraft.server.v1_8_R3.ChunkSection;
+import net.minecraft.server.v1_8_R3.IBlockData;
+import net.minecraft.server.v1_8_R3.WorldServer;
+import tc.oc.pgm.util.block.BlockWriter;
+import tc.oc.pgm.util.material.BlockMaterialData;
+
+/**
+ * Writes blocks straight into the sections of their chunk. Changes are sent through the player
+ * chunk map, which batches them into one multi block change per section, or resends the sections
+ * when too many blocks changed. Blocks that change how light spreads are relit once flushed.
+ */
+class SpBlockWriter implements BlockWriter {
+
+  private final WorldServer world;
+  private final Set<Chunk> dirty = new LinkedHashSet<>();
+  private final List<BlockPosition> relight = new ArrayList<>();
+  private Chunk chunk;
+
+  SpBlockWriter(WorldServer world) {
+    this.world = world;
+  }
+
+  @Override
+  public void set(int x, int y, int z, BlockMaterialData material) {
+    if (y < 0 || y >= 256) return;
+
+    // Materials are encoded as the type id, with the legacy data in the upper bits
+    int encoded = material.encoded();
+    IBlockData data = Block.getById(encoded & 0xfff).fromLegacyData(encoded >> 12 & 15);
+    if (chunk == null || chunk.locX != x >> 4 || chunk.locZ != z >> 4) {
+      chunk = world.getChunkAt(x >> 4, z >> 4);
+    }
+
+    ChunkSection[] sections = chunk.getSections();
+    ChunkSection section = sections[y >> 4];
+    if (section == null) {
+      if (data.getBlock() == Blocks.AIR) return;
+      section = sections[y >> 4] = new ChunkSection(y >> 4 << 4, !world.worldProvider.o());
+    }
+
+    IBlockData old = section.getType(x & 15, y & 15, z & 15);
+    if (old == data) return;
+
+    if (old.getBlock().isTileEntity() || data.getBlock().isTileEntity()) {
+      // Tile entities need to be created or removed, let bukkit handle them
+      material.applyTo(world.getWorld().getBlockAt(x, y, z), false);
+      return;
+    }
+
+    section.setType(x & 15, y & 15, z & 15, data);
+    BlockPosition pos = new BlockPosition(x, y, z);
+    world.notify(pos);
+
+    // p() is the light opacity and r() the light emission of a block. Only opacity changes the
+    // sky light, but both change the block light around
+    Block oldBlock = old.getBlock();
+    Block block = data.getBlock();
+    boolean opacity = oldBlock.p() != block.p();
+    if (opacity) dirty.add(chunk);
+    if (opacity || oldBlock.r() != block.r()) relight.add(pos);
+  }
+
+  @Override
+  public void flush() {
+    // Height maps must be updated first, as the sky light of a position depends on them
+    for (Chunk chunk : dirty) {
+      chunk.initLighting();
+    }
+    for (BlockPosition pos : relight) {
+      world.x(pos); // Checks the sky and block light
+    }
+    dirty.clear();
+    relight.clear();
+    chunk = null;
+  }
+}
@@ -43,6 +43,7 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.SkullMeta;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.util.Vector;
+import tc.oc.pgm.util.block.BlockWriter;
 import tc.oc.pgm.util.chunk.NullChunkGenerator;
 import tc.oc.pgm.util.material.BlockMaterialData;
 import tc.oc.pgm.util.nms.NMSHacks;
@@ -134,6 +135,11 @@ public class SpNMSHacks implements NMSHacks {
     return blocks;
   }
 
+  @Override
+  public BlockWriter createBlockWriter(World world) {
+    return new SpBlockWriter(((CraftWorld) world).getHandle());
+  }
+
   @Override
   public void setSkullMetaOwner(SkullMeta meta, String name, UUID uuid, Skin skin) {
     meta.setOwner(name, uuid, new org.bukkit.Skin(skin.getData(), skin.getSignature()));
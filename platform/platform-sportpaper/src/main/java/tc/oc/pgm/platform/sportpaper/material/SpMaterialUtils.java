@@ -2,16 +2,20 @@ package tc.oc.pgm.platform.sportpaper.material;
 
 import static tc.oc.pgm.util.platform.Supports.Variant.SPORTPAPER;
 
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import net.minecraft.server.v1_8_R3.Block;
+import net.minecraft.server.v1_8_R3.ChunkSection;
 import net.minecraft.server.v1_8_R3.IBlockData;
+import org.bukkit.Chunk;
 import org.bukkit.ChunkSnapshot;
 import org.bukkit.Material;
 import org.bukkit.block.BlockState;
+import org.bukkit.craftbukkit.v1_8_R3.CraftChunk;
 import org.bukkit.craftbukkit.v1_8_R3.util.CraftMagicNumbers;
 import org.bukkit.entity.Hanging;
 import org.bukkit.entity.ItemFrame;
@@ -85,6 +89,27 @@ public class SpMaterialUtils implements MaterialUtils {
     return SpEncodeUtil.decode(encoded);
   }
 
+  @Override
+  public int encode(ChunkSnapshot chunk, int x, int y, int z) {
+    return SpEncodeUtil.encode(chunk.getBlockTypeId(x, y, z), chunk.getBlockData(x, y, z));
+  }
+
+  @Override
+  public void encodeSection(Chunk chunk, int sectionY, char[] section) {
+    ChunkSection nms = ((CraftChunk) chunk).getHandle().getSections()[sectionY];
+    if (nms == null) {
+      // Missing sections are all air, which encodes as 0
+      Arrays.fill(section, (char) 0);
+      return;
+    }
+
+    // Sections store combined ids, with the same index order
+    char[] ids = nms.getIdArray();
+    for (int i = 0; i < ids.length; i++) {
+      section[i] = (char) SpEncodeUtil.encode(ids[i] >> 4, ids[i] & 15);
+    }
+  }
+
   @Override
   public Iterator<BlockData> iterator(
       Map<ChunkVector, ChunkSnapshot> chunks, Iterator<BlockVector> vectors) {
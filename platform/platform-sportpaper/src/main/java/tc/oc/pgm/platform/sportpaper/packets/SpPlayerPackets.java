@@ -6,10 +6,14 @@ import static tc.oc.pgm.util.platform.Supports.Variant.SPORTPAPER;
 
 import java.util.Collections;
 import java.util.List;
+import net.kyori.adventure.platform.bukkit.MinecraftComponentSerializer;
+import net.kyori.adventure.text.Component;
 import net.minecraft.server.v1_8_R3.BlockPosition;
 import net.minecraft.server.v1_8_R3.DataWatcher;
 import net.minecraft.server.v1_8_R3.EntityPlayer;
+import net.minecraft.server.v1_8_R3.IChatBaseComponent;
 import net.minecraft.server.v1_8_R3.PacketPlayOutBed;
+import net.minecraft.server.v1_8_R3.PacketPlayOutChat;
 import net.minecraft.server.v1_8_R3.PacketPlayOutCollect;
 import net.minecraft.server.v1_8_R3.PacketPlayOutEntityMetadata;
 import net.minecraft.server.v1_8_R3.PacketPlayOutEntityVelocity;
@@ -21,6 +25,7 @@ import org.bukkit.entity.Item;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import tc.oc.pgm.util.bukkit.ViaUtils;
+import tc.oc.pgm.util.nms.packets.Packet;
 import tc.oc.pgm.util.nms.packets.PlayerPackets;
 import tc.oc.pgm.util.platform.Supports;
 
@@ -29,6 +34,8 @@ public class SpPlayerPackets implements PlayerPackets, PacketSender {
 
   private static final int TYPE_FLOAT = 3;
   private static final int HEALTH_FIELD = 6;
+  private static final MinecraftComponentSerializer SERIALIZER =
+      MinecraftComponentSerializer.get();
 
   @Override
   public void playDeathAnimation(Player player) {
@@ -93,4 +100,11 @@ public class SpPlayerPackets implements PlayerPackets, PacketSender {
     handle.velocityChanged = false;
     handle.playerConnection.sendPacket(new PacketPlayOutEntityVelocity(handle));
   }
+
+  @Override
+  @SuppressWarnings("UnstableApiUsage")
+  public Packet chatMessage(Component message) {
+    var nmsMessage = (IChatBaseComponent) SERIALIZER.serialize(message);
+    return new SpPacket<>(new PacketPlayOutChat(nmsMessage));
+  }
 }
@@ -1,8 +1,11 @@
 package tc.oc.pgm.util;
 
-import com.google.common.io.Files;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.function.Predicate;
 
 /**
  * Source: http://www.crazysquirrel.com/computing/java/basics/java-file-and-directory-copying.jspx
@@ -15,6 +18,23 @@ public final class FileUtils {
   }
 
   public static void copy(File source, File destination, boolean force) throws IOException {
+    copy(source, destination, force, file -> false);
+  }
+
+  /**
+   * Copy a file or directory, hard linking some files instead of copying them.
+   *
+   * <p>A linked file shares its contents with the source, so it must only ever be replaced (by
+   * writing a new file and renaming it over the old one), never written in place. If a file can't
+   * be linked, such as across file systems, it is copied instead.
+   *
+   * @param source the file or directory to copy
+   * @param destination the file or directory to copy to
+   * @param force if the destination may already exist
+   * @param link files to hard link instead of copy
+   */
+  public static void copy(File source, File destination, boolean force, Predicate<File> link)
+      throws IOException {
     if (!source.exists()) {
       throw new IllegalArgumentException("Source (" + source.getPath() + ") doesn't exist.");
     }
@@ -24,28 +44,42 @@ public final class FileUtils {
     }
 
     if (source.isDirectory()) {
-      copyDirectory(source, destination);
+      copyDirectory(source, destination, link);
     } else {
-      copyFile(source, destination);
+      copyFile(source, destination, link);
     }
   }
 
-  private static void copyDirectory(File source, File destination) throws IOException {
+  private static void copyDirectory(File source, File destination, Predicate<File> link)
+      throws IOException {
     destination.mkdirs();
 
     File[] files = source.listFiles();
 
     for (File file : files) {
       if (file.isDirectory()) {
-        copyDirectory(file, new File(destination, file.getName()));
+        copyDirectory(file, new File(destination, file.getName()), link);
       } else {
-        copyFile(file, new File(destination, file.getName()));
+        copyFile(file, new File(destination, file.getName()), link);
       }
     }
   }
 
-  private static void copyFile(File source, File destination) throws IOException {
-    Files.copy(source, destination);
+  private static void copyFile(File source, File destination, Predicate<File> link)
+      throws IOException {
+    if (link.test(source)) {
+      Path path = destination.toPath();
+      Files.deleteIfExists(path);
+      try {
+        Files.createLink(path, source.toPath());
+        return;
+      } catch (IOException | UnsupportedOperationException e) {
+        // Fall back to a copy, not every file system supports links
+      }
+    }
+
+    // Lets the kernel copy the file, or clone it on file systems with copy-on-write support
+    Files.copy(source.toPath(), destination.toPath(), StandardCopyOption.REPLACE_EXISTING);
   }
 
   public static void delete(File f) {
@@ -0,0 +1,101 @@
+package tc.oc.pgm.util;
+
+import static tc.oc.pgm.util.nms.Packets.PLAYERS;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.TranslationArgument;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import tc.oc.pgm.util.nms.packets.Packet;
+import tc.oc.pgm.util.text.ComponentRenderer;
+import tc.oc.pgm.util.text.RenderableComponent;
+import tc.oc.pgm.util.text.TextTranslations;
+
+/**
+ * An audience of many players, which renders chat messages once for each group of players that
+ * see them the same way, instead of once per player.
+ *
+ * <p>Players are grouped by locale, and by the {@link RenderableComponent#renderKey render key} of
+ * every renderable component in the message. Each group is sent the same chat packet.
+ */
+public final class GroupedAudience implements Audience {
+
+  private final Iterable<? extends Player> players;
+  private final Audience others;
+
+  /**
+   * Create a grouped audience.
+   *
+   * @param players the players of the audience, may be a live view
+   * @param others the rest of the audience, like the console
+   */
+  public GroupedAudience(Iterable<? extends Player> players, Audience others) {
+    this.players = players;
+    this.others = others;
+  }
+
+  @Override
+  public @NotNull net.kyori.adventure.audience.Audience audience() {
+    List<net.kyori.adventure.audience.Audience> audiences = new ArrayList<>();
+    for (Player player : players) {
+      audiences.add(PROVIDER.player(player));
+    }
+    audiences.add(others);
+    return net.kyori.adventure.audience.Audience.audience(audiences);
+  }
+
+  @Override
+  public void sendMessage(@NotNull Component message) {
+    sendMessage(players, message);
+    others.sendMessage(message);
+  }
+
+  /**
+   * Send a chat message to players, rendering it once for each group of players that see it the
+   * same way.
+   *
+   * @param players the players to send the message to
+   * @param message the message to send
+   */
+  public static void sendMessage(Iterable<? extends Player> players, Component message) {
+    List<RenderableComponent> renderables = new ArrayList<>();
+    collectRenderables(message, renderables);
+
+    Map<List<Object>, Packet> packets = new HashMap<>();
+    for (Player player : players) {
+      var audience = PROVIDER.player(player);
+
+      List<Object> key = new ArrayList<>(renderables.size() + 1);
+      key.add(TextTranslations.getLocale(audience));
+      for (RenderableComponent renderable : renderables) {
+        key.add(renderable.renderKey(player));
+      }
+
+      packets
+          .computeIfAbsent(
+              key, k -> PLAYERS.chatMessage(ComponentRenderer.RENDERER.render(message, audience)))
+          .send(player);
+    }
+  }
+
+  private static void collectRenderables(Component component, List<RenderableComponent> result) {
+    if (component instanceof RenderableComponent renderable) result.add(renderable);
+    if (component instanceof TranslatableComponent translatable) {
+      for (TranslationArgument argument : translatable.arguments()) {
+        if (argument.value() instanceof Component arg) collectRenderables(arg, result);
+      }
+    }
+    if (component.hoverEvent() != null
+        && component.hoverEvent().value() instanceof Component hover) {
+      collectRenderables(hover, result);
+    }
+    for (Component child : component.children()) {
+      collectRenderables(child, result);
+    }
+  }
+}
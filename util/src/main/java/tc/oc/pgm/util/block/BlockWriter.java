@@ -0,0 +1,26 @@
+package tc.oc.pgm.util.block;
+
+import tc.oc.pgm.util.material.BlockMaterialData;
+
+/**
+ * Changes many blocks of a world at once, without physics or block events.
+ *
+ * <p>Blocks are written straight to the storage of their chunk section, and players are sent the
+ * changes of each section together instead of one packet per block. Lighting is recalculated once
+ * the writer is {@link #flush() flushed}.
+ */
+public interface BlockWriter {
+
+  /**
+   * Set the block at a position, the change may not be visible until {@link #flush()}.
+   *
+   * @param x the x coordinate of the block
+   * @param y the y coordinate of the block
+   * @param z the z coordinate of the block
+   * @param material the new material of the block
+   */
+  void set(int x, int y, int z, BlockMaterialData material);
+
+  /** Finish writing the blocks set so far, relighting the chunks they are in. */
+  void flush();
+}
@@ -3,6 +3,7 @@ package tc.oc.pgm.util.bukkit;
 import static tc.oc.pgm.util.Assert.assertNotNull;
 
 import java.lang.reflect.Method;
+import java.util.function.Predicate;
 import java.util.logging.Level;
 import org.bukkit.Bukkit;
 import org.bukkit.event.Cancellable;
@@ -18,6 +19,13 @@ import org.jetbrains.annotations.NotNull;
 public interface Events {
 
   static void callEvent(@NotNull Event event, @NotNull EventPriority priority) {
+    callEvent(event, priority, registration -> true);
+  }
+
+  static void callEvent(
+      @NotNull Event event,
+      @NotNull EventPriority priority,
+      @NotNull Predicate<RegisteredListener> filter) {
     assertNotNull(event, "event");
     assertNotNull(priority, "priority");
 
@@ -36,6 +44,10 @@ public interface Events {
         continue;
       }
 
+      if (!filter.test(registration)) {
+        continue;
+      }
+
       try {
         registration.callEvent(event);
       } catch (AuthorNagException ex) {
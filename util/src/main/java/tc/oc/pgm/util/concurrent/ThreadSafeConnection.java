@@ -58,6 +58,24 @@ public class ThreadSafeConnection implements Closeable {
     }
   }
 
+  /** A {@link Query} that can be sent in a batch with other queries of the same format. */
+  public interface BatchQuery extends Query {
+
+    /**
+     * Sets the parameters of the query and adds them to the batch of the statement.
+     *
+     * @param statement A statement shared with other queries of the same format.
+     * @throws SQLException If the parameters are invalid.
+     */
+    void addBatch(PreparedStatement statement) throws SQLException;
+
+    @Override
+    default void query(PreparedStatement statement) throws SQLException {
+      addBatch(statement);
+      statement.executeBatch();
+    }
+  }
+
   /**
    * Submits a query.
    *
@@ -86,6 +104,69 @@ public class ThreadSafeConnection implements Closeable {
         executorService);
   }
 
+  /**
+   * Submits queries to run in a single transaction. Consecutive queries with the same format are
+   * sent as one batch.
+   *
+   * @see BatchQuery
+   * @param queries The queries, in the order they should run.
+   * @return A future when the transaction is complete.
+   */
+  public CompletableFuture<Void> submitBatch(List<? extends BatchQuery> queries) {
+    return CompletableFuture.runAsync(
+        () -> {
+          try {
+            final Connection connection = acquireConnection();
+
+            try {
+              connection.setAutoCommit(false);
+              executeBatches(connection, queries);
+              connection.commit();
+            } catch (Throwable t) {
+              t.printStackTrace();
+              rollback(connection);
+            } finally {
+              resetAutoCommit(connection);
+              releaseConnection(connection);
+            }
+          } catch (SQLException e) {
+            e.printStackTrace();
+          }
+        },
+        executorService);
+  }
+
+  private static void executeBatches(Connection connection, List<? extends BatchQuery> queries)
+      throws SQLException {
+    int i = 0;
+    while (i < queries.size()) {
+      final String format = queries.get(i).getFormat();
+
+      try (final PreparedStatement statement = connection.prepareStatement(format)) {
+        for (; i < queries.size() && queries.get(i).getFormat().equals(format); i++) {
+          queries.get(i).addBatch(statement);
+        }
+        statement.executeBatch();
+      }
+    }
+  }
+
+  private static void rollback(Connection connection) {
+    try {
+      connection.rollback();
+    } catch (SQLException e) {
+      e.printStackTrace();
+    }
+  }
+
+  private static void resetAutoCommit(Connection connection) {
+    try {
+      connection.setAutoCommit(true);
+    } catch (SQLException e) {
+      e.printStackTrace();
+    }
+  }
+
   /**
    * Releases an existing connection.
    *
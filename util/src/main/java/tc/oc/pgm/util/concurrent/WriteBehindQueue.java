@@ -0,0 +1,139 @@
+package tc.oc.pgm.util.concurrent;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import tc.oc.pgm.util.concurrent.ThreadSafeConnection.BatchQuery;
+
+/**
+ * Delays writes to a {@link ThreadSafeConnection}, and periodically flushes them all in a single
+ * transaction.
+ *
+ * <p>Writes are coalesced by key: submitting a query for a key that already has one pending
+ * replaces it, keeping its place in the order. Queries should read their parameters when they are
+ * added to the batch, so that the latest state is written.
+ */
+public class WriteBehindQueue implements Closeable {
+
+  private final ThreadSafeConnection connection;
+  private final ScheduledExecutorService scheduler;
+
+  private final Map<Object, BatchQuery> pending = new LinkedHashMap<>();
+  // Flushes are chained, so they are applied in order even with many connections
+  private CompletableFuture<Void> lastFlush = CompletableFuture.completedFuture(null);
+
+  private final AtomicLong submitted = new AtomicLong();
+  private final AtomicLong coalesced = new AtomicLong();
+  private final AtomicLong flushes = new AtomicLong();
+  private final AtomicLong written = new AtomicLong();
+  private final AtomicLong flushNanos = new AtomicLong();
+  private final AtomicLong maxFlushNanos = new AtomicLong();
+  private volatile long lastFlushNanos;
+
+  public WriteBehindQueue(ThreadSafeConnection connection, Duration interval) {
+    this.connection = connection;
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      final Thread thread = new Thread(runnable, "PGM Write Behind");
+      thread.setDaemon(true);
+      return thread;
+    });
+
+    final long millis = Math.max(1, interval.toMillis());
+    scheduler.scheduleWithFixedDelay(this::flush, millis, millis, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Queues a query to be written on the next flush.
+   *
+   * @param key A key identifying what the query writes.
+   * @param query The query.
+   */
+  public synchronized void submit(Object key, BatchQuery query) {
+    submitted.incrementAndGet();
+    if (pending.put(key, query) != null) coalesced.incrementAndGet();
+  }
+
+  /**
+   * Writes every pending query in a single transaction.
+   *
+   * @return A future when the queries, and any flush before them, are written.
+   */
+  public synchronized CompletableFuture<Void> flush() {
+    if (pending.isEmpty()) return lastFlush;
+
+    final List<BatchQuery> queries = new ArrayList<>(pending.values());
+    pending.clear();
+
+    return lastFlush = lastFlush
+        .handle((v, err) -> null) // A failed flush should not prevent the next ones
+        .thenCompose(v -> {
+          final long start = System.nanoTime();
+          return connection
+              .submitBatch(queries)
+              .whenComplete((v2, err) -> recordFlush(queries.size(), System.nanoTime() - start));
+        });
+  }
+
+  private void recordFlush(int size, long nanos) {
+    flushes.incrementAndGet();
+    written.addAndGet(size);
+    flushNanos.addAndGet(nanos);
+    maxFlushNanos.accumulateAndGet(nanos, Math::max);
+    lastFlushNanos = nanos;
+  }
+
+  /** @return The number of queries waiting for the next flush. */
+  public synchronized int getQueueDepth() {
+    return pending.size();
+  }
+
+  /** @return The number of queries submitted. */
+  public long getSubmitted() {
+    return submitted.get();
+  }
+
+  /** @return The number of queries that replaced a pending query for the same key. */
+  public long getCoalesced() {
+    return coalesced.get();
+  }
+
+  /** @return The number of completed flushes. */
+  public long getFlushes() {
+    return flushes.get();
+  }
+
+  /** @return The number of queries written by completed flushes. */
+  public long getWritten() {
+    return written.get();
+  }
+
+  /** @return The time the last flush took, in nanoseconds. */
+  public long getLastFlushNanos() {
+    return lastFlushNanos;
+  }
+
+  /** @return The longest time a flush took, in nanoseconds. */
+  public long getMaxFlushNanos() {
+    return maxFlushNanos.get();
+  }
+
+  /** @return The total time spent flushing, in nanoseconds. */
+  public long getTotalFlushNanos() {
+    return flushNanos.get();
+  }
+
+  /** Stops flushing periodically, and waits for the pending queries to be written. */
+  @Override
+  public void close() {
+    scheduler.shutdownNow();
+    flush().join();
+  }
+}
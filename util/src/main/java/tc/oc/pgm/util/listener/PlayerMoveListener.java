@@ -25,6 +25,10 @@ public class PlayerMoveListener implements Listener {
   // on its own.
   private final Map<Player, Location> lastToLocation = new WeakHashMap<>();
 
+  // Movement events that were checked, and those that crossed a block boundary
+  private long rawMoves;
+  private long coarseMoves;
+
   private void updateLastToLocation(Player player, Location location) {
     this.lastToLocation.put(player, location);
   }
@@ -107,9 +111,11 @@ public class PlayerMoveListener implements Listener {
     }
 
     // If the movement does not cross a block boundary, we don't care about it
-    if (event.getTo().getBlock().equals(event.getFrom().getBlock())) {
+    rawMoves++;
+    if (isSameBlock(event.getFrom(), event.getTo())) {
       return false;
     }
+    coarseMoves++;
 
     // Remember whether the original event was already cancelled
     boolean wasCancelled = event.isCancelled();
@@ -128,6 +134,27 @@ public class PlayerMoveListener implements Listener {
     }
   }
 
+  /**
+   * Get whether two locations are in the same block, without creating the {@link
+   * org.bukkit.block.Block}s like {@link Location#getBlock()} would.
+   */
+  private static boolean isSameBlock(Location from, Location to) {
+    return from.getBlockX() == to.getBlockX()
+        && from.getBlockY() == to.getBlockY()
+        && from.getBlockZ() == to.getBlockZ()
+        && from.getWorld() == to.getWorld();
+  }
+
+  /** @return The number of movements that were checked for crossing a block boundary. */
+  public long getRawMoves() {
+    return rawMoves;
+  }
+
+  /** @return The number of movements that crossed a block boundary. */
+  public long getCoarseMoves() {
+    return coarseMoves;
+  }
+
   /**
    * Modify the to location of the given event to prevent the movement and move the player so they
    * are standing on the center of the block at the from location.
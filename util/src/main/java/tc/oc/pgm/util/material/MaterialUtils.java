@@ -3,6 +3,7 @@ package tc.oc.pgm.util.material;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
+import org.bukkit.Chunk;
 import org.bukkit.ChunkSnapshot;
 import org.bukkit.Material;
 import org.bukkit.block.BlockState;
@@ -36,6 +37,22 @@ public interface MaterialUtils {
 
   BlockMaterialData decode(int encoded);
 
+  /**
+   * Get the {@link BlockMaterialData#encoded()} material at the given chunk-relative position of
+   * the snapshot, without creating intermediate objects where possible.
+   */
+  int encode(ChunkSnapshot chunk, int x, int y, int z);
+
+  /**
+   * Copy the {@link BlockMaterialData#encoded()} materials of a 16x16x16 section of a loaded chunk,
+   * indexed as {@code y << 8 | z << 4 | x}, without copying the rest of the chunk.
+   *
+   * @param chunk the chunk to read from
+   * @param sectionY the index of the section, counting up from y 0
+   * @param section the array to copy the materials into
+   */
+  void encodeSection(Chunk chunk, int sectionY, char[] section);
+
   Iterator<BlockData> iterator(
       Map<ChunkVector, ChunkSnapshot> chunks, Iterator<BlockVector> vectors);
 
@@ -15,6 +15,7 @@ import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.meta.SkullMeta;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.util.Vector;
+import tc.oc.pgm.util.block.BlockWriter;
 import tc.oc.pgm.util.material.BlockMaterialData;
 import tc.oc.pgm.util.platform.Platform;
 import tc.oc.pgm.util.skin.Skin;
@@ -38,6 +39,8 @@ public interface NMSHacks {
 
   List<Block> getBlocks(Chunk bukkitChunk, Material material);
 
+  BlockWriter createBlockWriter(World world);
+
   void setSkullMetaOwner(SkullMeta meta, String name, UUID uuid, Skin skin);
 
   World createWorld(String worldName, World.Environment env, boolean terrain, long seed);
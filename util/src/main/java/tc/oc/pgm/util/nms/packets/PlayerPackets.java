@@ -1,5 +1,6 @@
 package tc.oc.pgm.util.nms.packets;
 
+import net.kyori.adventure.text.Component;
 import org.bukkit.entity.Item;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
@@ -14,4 +15,12 @@ public interface PlayerPackets {
   void sendLegacyHelmet(Player player, ItemStack item);
 
   void updateVelocity(Player player);
+
+  /**
+   * Create a chat message packet, that can be sent to many players.
+   *
+   * @param message the message, already rendered for its viewers
+   * @return a packet showing the message in chat
+   */
+  Packet chatMessage(Component message);
 }
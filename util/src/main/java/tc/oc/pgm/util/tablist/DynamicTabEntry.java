@@ -1,15 +1,23 @@
 package tc.oc.pgm.util.tablist;
 
 import com.google.common.collect.Iterables;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import net.kyori.adventure.text.Component;
+import tc.oc.pgm.util.text.TextTranslations;
 
 /** Adds dirty tracking of {@link TabView}s. */
 public abstract class DynamicTabEntry extends SimpleTabEntry {
   final Set<TabView> cleanViews = new HashSet<>();
   final Set<TabView> dirtyViews = new HashSet<>();
 
+  // Content translated for each locale and content key, until this entry is invalidated
+  private final Map<RenderKey, Component> renders = new HashMap<>();
+
   public DynamicTabEntry(UUID uuid) {
     super(uuid);
   }
@@ -18,6 +26,7 @@ public abstract class DynamicTabEntry extends SimpleTabEntry {
 
   /** Mark all {@link TabView}s containing this entry dirty */
   public void invalidate() {
+    renders.clear();
     if (cleanViews.isEmpty()) return;
 
     for (TabView view : cleanViews) {
@@ -28,6 +37,21 @@ public abstract class DynamicTabEntry extends SimpleTabEntry {
     cleanViews.clear();
   }
 
+  /**
+   * Get the content of this entry translated for the view, shared with every view that has the same
+   * locale and {@link #getContentKey(TabView) content key}.
+   */
+  Component getTranslatedContent(TabView view) {
+    Object contentKey = getContentKey(view);
+    if (contentKey == null) return view.translate(getContent(view));
+
+    Locale locale = TextTranslations.getLocale(view.getAudience());
+    return renders.computeIfAbsent(
+        new RenderKey(locale, contentKey), key -> view.translate(getContent(view)));
+  }
+
+  private record RenderKey(Locale locale, Object contentKey) {}
+
   @Override
   public boolean isDirty(TabView view) {
     return dirtyViews.contains(view);
@@ -5,9 +5,11 @@ import static tc.oc.pgm.util.nms.NMSHacks.NMS_HACKS;
 import static tc.oc.pgm.util.nms.PlayerUtils.PLAYER_UTILS;
 
 import java.util.UUID;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import net.kyori.adventure.text.Component;
 import org.bukkit.entity.Player;
+import org.jetbrains.annotations.Nullable;
 import tc.oc.pgm.util.event.player.PlayerSkinPartsChangeEvent;
 import tc.oc.pgm.util.skin.Skin;
 
@@ -22,9 +24,20 @@ public class PlayerTabEntry extends DynamicTabEntry {
 
   private static boolean showPing = false;
   private static Function<Player, Component> playerComponent = p -> text(p.getName());
+  private static BiFunction<Player, Player, Object> contentKey = (p, viewer) -> Boolean.TRUE;
 
   public static void setPlayerComponent(Function<Player, Component> playerComponent) {
+    setPlayerComponent(playerComponent, (p, viewer) -> null);
+  }
+
+  /**
+   * Set the component for players, and the key of the viewers that see the same component for a
+   * player, which allows them to share its translation.
+   */
+  public static void setPlayerComponent(
+      Function<Player, Component> playerComponent, BiFunction<Player, Player, Object> contentKey) {
     PlayerTabEntry.playerComponent = playerComponent;
+    PlayerTabEntry.contentKey = contentKey;
   }
 
   public static void setShowRealPing(boolean showPing) {
@@ -59,6 +72,11 @@ public class PlayerTabEntry extends DynamicTabEntry {
     return playerComponent.apply(player);
   }
 
+  @Override
+  public @Nullable Object getContentKey(TabView view) {
+    return contentKey.apply(player, view.getViewer());
+  }
+
   @Override
   public int getFakeEntityId(TabView view) {
     return this.spareEntityId;
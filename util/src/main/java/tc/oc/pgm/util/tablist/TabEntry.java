@@ -54,6 +54,15 @@ public interface TabEntry {
    */
   Component getContent(TabView view);
 
+  /**
+   * Key shared by the views that see the same content for this entry. Views with the same key and
+   * locale can share a single translation of the content, and a constant key shares it with every
+   * view. Null if the content may be different in every view, which is the default.
+   */
+  default @Nullable Object getContentKey(TabView view) {
+    return null;
+  }
+
   /**
    * Gamemode for the entry. If the entry is linked to a real player, this will change the client's
    * gamemode.
@@ -13,7 +13,6 @@ import tc.oc.pgm.util.Audience;
 import tc.oc.pgm.util.nms.EnumPlayerInfoAction;
 import tc.oc.pgm.util.nms.packets.Packet;
 import tc.oc.pgm.util.nms.packets.TabPackets;
-import tc.oc.pgm.util.text.TextTranslations;
 
 public class TabRender {
   private final TabView view;
@@ -44,11 +43,12 @@ public class TabRender {
   }
 
   private Component getJson(TabEntry entry) {
-    return TextTranslations.translate(entry.getContent(this.view), this.view.getViewer());
+    return this.view.translateContent(entry);
   }
 
   private void appendAddition(TabEntry entry, int index) {
     var renderedDisplayName = this.getJson(entry);
+    this.view.markSent(entry, renderedDisplayName);
     this.addPacket.addPlayerInfo(
         entry.getId(),
         entry.getName(this.view),
@@ -65,6 +65,7 @@ public class TabRender {
 
   private void appendRemoval(TabEntry entry) {
     this.removePacket.addPlayerInfo(entry.getId());
+    this.view.markSent(entry, null);
 
     int entityId = entry.getFakeEntityId(this.view);
     if (entityId >= 0) {
@@ -126,7 +127,10 @@ public class TabRender {
   }
 
   public void updateEntry(TabEntry entry, int index) {
-    this.updatePacket.addPlayerInfo(entry.getId(), this.getJson(entry));
+    Component renderedDisplayName = this.getJson(entry);
+    if (this.view.markSent(entry, renderedDisplayName)) {
+      this.updatePacket.addPlayerInfo(entry.getId(), renderedDisplayName);
+    }
   }
 
   public void updatePing(TabEntry entry, int index) {
@@ -3,10 +3,12 @@ package tc.oc.pgm.util.tablist;
 import java.util.HashMap;
 import java.util.Map;
 import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import org.bukkit.entity.Player;
 import org.bukkit.event.player.PlayerChangedWorldEvent;
 import org.bukkit.event.player.PlayerRespawnEvent;
 import org.jetbrains.annotations.Nullable;
+import tc.oc.pgm.util.Audience;
 import tc.oc.pgm.util.bukkit.ViaUtils;
 import tc.oc.pgm.util.text.TextTranslations;
 
@@ -25,6 +27,7 @@ public class TabView {
 
   // The single player seeing this view
   private final Player viewer;
+  private final Audience audience;
 
   protected @Nullable TabManager manager;
 
@@ -32,12 +35,15 @@ public class TabView {
   protected final TabViewDirtyTracker dirtyTracker;
   private final TabEntry[] slots, rendered;
   private Component header, footer;
+  // Content last sent to the viewer for each entry, so unchanged content is not sent again
+  private final Map<TabEntry, Component> sentContent = new HashMap<>();
 
   // Only used for legacy players, initialized on enable
   protected @Nullable TabDisplay display = null;
 
   public TabView(Player viewer) {
     this.viewer = viewer;
+    this.audience = Audience.get(viewer);
     this.size = WIDTH * HEIGHT;
     this.headerSlot = this.size;
     this.footerSlot = this.headerSlot + 1;
@@ -58,6 +64,10 @@ public class TabView {
     return viewer;
   }
 
+  public Audience getAudience() {
+    return audience;
+  }
+
   public int getWidth() {
     return WIDTH;
   }
@@ -95,6 +105,28 @@ public class TabView {
     }
   }
 
+  /** Translate the content for the viewer of this view */
+  Component translate(Component content) {
+    return TextTranslations.translate(content, audience);
+  }
+
+  /** Get the content of the entry, translated for the viewer of this view */
+  Component translateContent(TabEntry entry) {
+    return entry instanceof DynamicTabEntry
+        ? ((DynamicTabEntry) entry).getTranslatedContent(this)
+        : translate(entry.getContent(this));
+  }
+
+  /**
+   * Remember the content sent to the viewer for the entry, or forget it if null.
+   *
+   * @return Whether the content is different from what was last sent.
+   */
+  boolean markSent(TabEntry entry, @Nullable Component content) {
+    if (content == null) return sentContent.remove(entry) != null;
+    return !content.equals(sentContent.put(entry, content));
+  }
+
   protected void invalidateContent(TabEntry entry) {
     int slot = getSlot(entry);
     if (slot == this.headerSlot) dirtyTracker.invalidateHeader();
@@ -190,8 +222,8 @@ public class TabView {
           if (this.slots[i] == this.rendered[i] && !this.slots[i].isDirty(this)) continue;
           this.rendered[i] = this.slots[i];
 
-          this.display.set(
-              x, y, TextTranslations.translateLegacy(this.rendered[i].getContent(this), viewer));
+          Component content = translateContent(this.rendered[i]);
+          this.display.set(x, y, LegacyComponentSerializer.legacySection().serialize(content));
         }
       }
     }
@@ -267,7 +299,8 @@ public class TabView {
     if (dirtyTracker.isContent()) {
       dirtyTracker.validateContent();
 
-      // Build the update packet from entries with new content that are not being added or removed
+      // Build the update packet from entries with new content that are not being added or removed.
+      // Entries whose translated content did not actually change are skipped.
       for (int i = 0; i < this.size; i++) {
         if (this.slots[i].isDirty(this)) {
           render.updateEntry(this.slots[i], i);
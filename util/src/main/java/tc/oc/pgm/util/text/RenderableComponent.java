@@ -14,6 +14,16 @@ public interface RenderableComponent extends ScopedComponent<RenderableComponent
 
   Component render(CommandSender viewer);
 
+  /**
+   * Get a key that is equal for the viewers this component renders the same for.
+   *
+   * @param viewer the viewer of the component
+   * @return a key for the rendered result, the viewer itself by default
+   */
+  default Object renderKey(CommandSender viewer) {
+    return viewer;
+  }
+
   @Override
   default @NotNull RenderableComponent children(@NotNull List<? extends ComponentLike> children) {
     return this;
@@ -46,6 +46,32 @@ public class DocumentWrapper extends Document {
     return visitingAllowed;
   }
 
+  /**
+   * Deep-copy this document. Unlike a {@link #clone}, nodes of the copy are visited separately from
+   * the nodes of this document, and elements keep the uri of the document they were included from.
+   */
+  public DocumentWrapper copy() {
+    DocumentWrapper copy = (DocumentWrapper) clone();
+    if (hasRootElement()) detach(getRootElement(), copy.getRootElement());
+    return copy;
+  }
+
+  private static void detach(Element original, Element copy) {
+    if (copy instanceof InheritingElement el && original instanceof InheritingElement orig) {
+      el.detachFrom(orig);
+    }
+    for (Attribute attribute : copy.getAttributes()) {
+      if (attribute instanceof VisitableAttribute visitable) visitable.resetVisited();
+    }
+
+    // Clones keep the order of their content, so children are matched by index
+    for (int i = 0; i < original.getContentSize(); i++) {
+      if (original.getContent(i) instanceof Element child) {
+        detach(child, (Element) copy.getContent(i));
+      }
+    }
+  }
+
   public void checkUnvisited(Consumer<Node> unvisited) {
     checkVisited(getRootElement(), unvisited);
   }
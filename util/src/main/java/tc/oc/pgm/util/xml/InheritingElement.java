@@ -102,6 +102,12 @@ public class InheritingElement extends LocatedElement {
     visited.set(true);
   }
 
+  /** Stop sharing visitation with the element this was copied from, and keep its origin. */
+  void detachFrom(InheritingElement original) {
+    this.visited = new AtomicBoolean();
+    this.originalUri = original.originalUri;
+  }
+
   @Override
   public List<Element> getChildren() {
     List<Element> children = super.getChildren();
@@ -41,6 +41,10 @@ public class VisitableAttribute extends Attribute {
     return visited.get();
   }
 
+  void resetVisited() {
+    visited = new AtomicBoolean();
+  }
+
   @Override
   public Attribute clone() {
     VisitableAttribute copy = (VisitableAttribute) super.clone();